@@ -66,6 +66,8 @@ public class SecurityConfig {
             "/login/**",
             "/reg/**",
             "/notice/v1/noticeList",
+            "/notice/v1/noticePage",
+            "/notice/v1/noticeSearch",
             "/notice/v1/noticeInfo",
             "/v3/api-docs/**",
             "/swagger-ui/**",
@@ -74,6 +76,15 @@ public class SecurityConfig {
             // [여기에 추가]
     };
 
+    /**
+     * compact 토큰의 권한 비트마스크(r) → 역할 이름
+     * - UserService kopo.poly.auth.UserRole 의 bit 값과 같아야 합니다(변경 금지, 추가만).
+     */
+    private static final Map<Long, String> ROLE_BITS = Map.of(
+            1L, "ADMIN",
+            2L, "USER"
+    );
+
     // 경로 패턴 매칭을 위한 파서 객체
     private static final PathPatternParser PP = new PathPatternParser();
 
@@ -95,19 +106,24 @@ public class SecurityConfig {
     /**
      * JWT 토큰의 roles 클레임을 Spring Security 권한 객체로 변환합니다.
      * - roles가 배열이면 그대로, 문자열이면 쉼표/공백으로 분리
+     * - compact 토큰(jwt.token.access.profile=compact)은 r(비트마스크) 클레임도 함께 해석
      * - 각 역할 앞에 ROLE_을 붙여서 SimpleGrantedAuthority로 변환
      */
     private Converter<Jwt, Mono<AbstractAuthenticationToken>> jwtAuthConverter() {
         JwtAuthenticationConverter delegate = new JwtAuthenticationConverter();
         delegate.setJwtGrantedAuthoritiesConverter(jwt -> {
             Object claim = jwt.getClaim("roles");
-            List<String> roles;
+            List<String> roles = new ArrayList<>();
             if (claim instanceof Collection<?> c) {
-                roles = c.stream().map(String::valueOf).toList();
+                c.forEach(v -> roles.add(String.valueOf(v)));
             } else if (claim instanceof String s) {
-                roles = Arrays.stream(s.split("[,\\s]+")).filter(v -> !v.isBlank()).toList();
-            } else {
-                roles = List.of();
+                Arrays.stream(s.split("[,\\s]+")).filter(v -> !v.isBlank()).forEach(roles::add);
+            }
+            if (jwt.getClaims().get("r") instanceof Number bits) {
+                long mask = bits.longValue();
+                ROLE_BITS.forEach((bit, role) -> {
+                    if ((mask & bit) != 0) roles.add(role);
+                });
             }
             return roles.stream()
                     .map(String::trim)
@@ -0,0 +1,115 @@
+package kopo.poly.jmh;
+
+import kopo.poly.util.NoticeInvertedIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NoticeInvertedIndex 색인 생성/검색 성능 측정
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=NoticeInvertedIndexBenchmark
+ * - build : 공지 docs 건 색인 생성 1회 시간(SingleShotTime)
+ * - search: 검색 1회 지연 분포(SampleTime, p0.50/p0.99 등)
+ * - 제목(단어 4~8개), 본문(단어 40~120개)을 한글 단어 목록에서 무작위(Zipf 비슷한 분포)로 만들고,
+ * 본문에는 드문 단어(무작위 음절 2~3개, TAIL_WORDS 개 중 치우친 분포) 3개를 섞습니다.
+ * - queries=common: 흔한 단어 1~3개(모든 토큰이 흔한 최악의 경우), mixed: 흔한 단어 1개 + 드문 단어 1개
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NoticeInvertedIndexBenchmark {
+
+    private static final String[] WORDS = (
+            "공지 안내 학사 일정 수강 신청 변경 기간 장학금 지급 기숙사 입사 퇴사 점검 도서관 휴관 " +
+            "시험 중간고사 기말고사 성적 확인 정정 졸업 논문 제출 등록금 납부 분할 연장 휴학 복학 " +
+            "교육 프로그램 모집 참가 설명회 취업 박람회 채용 인턴십 현장실습 봉사 활동 동아리 축제 " +
+            "행사 변경사항 시스템 점검 서버 정기 보안 업데이트 비밀번호 계정 로그인 오류 문의 " +
+            "학생 교수 직원 학과 대학원 연구 과제 실험실 안전 교육 필수 이수 증명서 발급 온라인 " +
+            "강의 녹화 출석 인정 결석 사유 제출 방법 위치 주차 셔틀 버스 운행 시간표 식당 메뉴 " +
+            "2024 2025 1학기 2학기 여름 겨울 계절학기 java spring kubernetes docker redis mariadb"
+    ).split(" ");
+
+    private static final int TAIL_WORDS = 50_000;
+    private static final String[] TAIL = tailWords();
+
+    private static final int QUERIES = 2_000;
+
+    @Param({"1000000"})
+    private int docs;
+
+    @Param({"common", "mixed"})
+    private String queries;
+
+    private NoticeInvertedIndex index;
+    private String[] queryTexts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        index = build(docs);
+
+        Random random = new Random(7);
+        queryTexts = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryTexts[i] = "mixed".equals(queries)
+                    ? text(random, 1, 1) + tail(random)
+                    : text(random, 1, 3);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public NoticeInvertedIndex build() {
+        return build(docs);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public NoticeInvertedIndex.Hits search() {
+        String q = queryTexts[next++ % QUERIES];
+        return index.search(q, 0, 20);
+    }
+
+    private static NoticeInvertedIndex build(int docs) {
+        Random random = new Random(42);
+        NoticeInvertedIndex index = new NoticeInvertedIndex();
+        for (int i = 1; i <= docs; i++) {
+            index.add(i, text(random, 4, 8), text(random, 40, 120) + tail(random) + tail(random) + tail(random));
+        }
+        return index;
+    }
+
+    // 드문 단어: 앞쪽일수록 자주 나오도록 세제곱 분포로 고름
+    private static String tail(Random random) {
+        double r = random.nextDouble();
+        return TAIL[(int) (r * r * r * TAIL.length)] + ' ';
+    }
+
+    private static String[] tailWords() {
+        Random random = new Random(1);
+        String[] words = new String[TAIL_WORDS];
+        for (int i = 0; i < TAIL_WORDS; i++) {
+            int n = 2 + random.nextInt(2);
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < n; j++) {
+                sb.append((char) ('가' + random.nextInt(11172))); // 한글 음절(가~힣)
+            }
+            words[i] = sb.toString();
+        }
+        return words;
+    }
+
+    // Zipf 비슷한 분포: 앞쪽 단어가 더 자주 나오도록 제곱 분포로 고름
+    private static String text(Random random, int minWords, int maxWords) {
+        int n = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            double r = random.nextDouble();
+            sb.append(WORDS[(int) (r * r * WORDS.length)]).append(' ');
+        }
+        return sb.toString();
+    }
+}
@@ -4,11 +4,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 //@EnableDiscoveryClient
 @EnableJpaRepositories
 @EnableFeignClients
+@EnableScheduling
 @SpringBootApplication
 public class NoticeServiceApplication {
 
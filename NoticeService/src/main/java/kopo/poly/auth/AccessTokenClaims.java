@@ -0,0 +1,70 @@
+package kopo.poly.auth;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Access 토큰(JWT) 클레임 해석(UserService kopo.poly.auth.AccessTokenClaims 와 같은 규칙)
+ * <p>
+ * - standard : sub, username, roles(["ROLE_USER"])
+ * - compact  : sub, r(권한 비트마스크), n(이름, 선택), roles(비트로 표현할 수 없는 권한)
+ */
+public final class AccessTokenClaims {
+
+    public static final String CLAIM_USERNAME = "username";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_ROLE_BITS = "r";
+    public static final String CLAIM_NAME = "n";
+
+    /**
+     * compact 토큰의 권한 비트마스크(r) → 권한 이름
+     * - UserService kopo.poly.auth.UserRole 의 bit 값과 같아야 합니다(변경 금지, 추가만).
+     */
+    private static final Map<Long, String> ROLE_BITS = Map.of(
+            1L, "ROLE_ADMIN",
+            2L, "ROLE_USER"
+    );
+
+    private AccessTokenClaims() {
+    }
+
+    /**
+     * 권한 목록(standard: roles, compact: r + roles). ROLE_ 접두어가 없으면 붙임
+     */
+    public static List<String> roles(Jwt jwt) {
+        List<String> roles = new ArrayList<>();
+
+        Object list = jwt.getClaims().get(CLAIM_ROLES);
+        if (list instanceof Collection<?> c) {
+            c.forEach(v -> roles.add(String.valueOf(v)));
+        } else if (list instanceof String s) {
+            roles.addAll(List.of(s.split("[,\\s]+")));
+        }
+
+        if (jwt.getClaims().get(CLAIM_ROLE_BITS) instanceof Number n) {
+            long mask = n.longValue();
+            ROLE_BITS.forEach((bit, role) -> {
+                if ((mask & bit) != 0) roles.add(role);
+            });
+        }
+
+        return roles.stream()
+                .map(String::trim)
+                .filter(r -> !r.isEmpty())
+                .map(r -> r.startsWith("ROLE_") ? r : "ROLE_" + r)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 사용자 이름(standard: username, compact: n). 없으면 null
+     */
+    public static String userName(Jwt jwt) {
+        String name = jwt.getClaimAsString(CLAIM_USERNAME);
+        return name != null ? name : jwt.getClaimAsString(CLAIM_NAME);
+    }
+}
@@ -0,0 +1,60 @@
+package kopo.poly.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 공지사항 조회 캐시 설정(Caffeine, 인스턴스 메모리)
+ * - noticeInfo: 글번호 → 상세 정보(NoticeDTO). 조회수는 DB 값이며, 아직 반영하지 않은 조회수는 조회 시 더합니다.
+ * - noticeList: 목록/페이지 결과(전체 목록 "ALL", 페이지 "크기:커서")
+ * - 등록/수정/삭제 시 무효화하고, TTL 은 무효화가 누락된 경우의 안전장치입니다.
+ * - transactionAware: 트랜잭션 안에서의 저장/무효화는 커밋 후에 반영(커밋 전 값이 다시 캐시되지 않도록)
+ * - 적중률 등 통계는 /actuator/metrics/cache.gets, cache.size 등에서 확인합니다(recordStats).
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String NOTICE_INFO = "noticeInfo";
+    public static final String NOTICE_LIST = "noticeList";
+
+    @Value("${app.notice.cache.info.max-size:10000}")
+    private long infoMaxSize;
+
+    @Value("${app.notice.cache.info.ttl-sec:300}")
+    private long infoTtlSec;
+
+    @Value("${app.notice.cache.list.max-size:200}")
+    private long listMaxSize;
+
+    // 목록의 조회수는 이 시간만큼 늦게 반영될 수 있음
+    @Value("${app.notice.cache.list.ttl-sec:30}")
+    private long listTtlSec;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+
+        cacheManager.registerCustomCache(NOTICE_INFO, Caffeine.newBuilder()
+                .maximumSize(infoMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(infoTtlSec))
+                .recordStats()
+                .build());
+
+        cacheManager.registerCustomCache(NOTICE_LIST, Caffeine.newBuilder()
+                .maximumSize(listMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(listTtlSec))
+                .recordStats()
+                .build());
+
+        // 트랜잭션 안의 put/evict 는 커밋 후에 실행
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
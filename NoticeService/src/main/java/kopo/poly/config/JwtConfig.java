@@ -0,0 +1,34 @@
+package kopo.poly.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+
+/**
+ * JWT 검증 설정 (HS256 + Base64 시크릿, UserService/게이트웨이와 같은 jwt.secret.key 사용)
+ * - 서명, 만료(exp, 허용 오차 60초)를 검증합니다.
+ */
+@Configuration
+public class JwtConfig {
+
+    /**
+     * JWT 디코더(검증기)
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(@Value("${jwt.secret.key}") String secretBase64) {
+        byte[] keyBytes = Base64.getDecoder().decode(secretBase64);
+        SecretKey key = new SecretKeySpec(keyBytes, "HmacSHA256");
+
+        return NimbusJwtDecoder
+                .withSecretKey(key)
+                .macAlgorithm(MacAlgorithm.HS256) // 토큰 alg가 HS256이 아니면 거부
+                .build();
+    }
+}
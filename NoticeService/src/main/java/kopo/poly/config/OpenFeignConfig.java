@@ -4,6 +4,7 @@ import feign.Logger;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -11,6 +12,10 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+/**
+ * OpenFeign 공통 설정
+ * - 연결 풀/타임아웃은 application.yaml 의 spring.cloud.openfeign.* (Apache HttpClient 5) 에서 설정합니다.
+ */
 @Configuration
 public class OpenFeignConfig {
 
@@ -42,11 +47,20 @@ public class OpenFeignConfig {
     }
 
     /**
-     * Feign 클라이언트의 로그 레벨을 FULL로 설정
-     * - 모든 요청/응답의 상세 내용을 로그로 남김
+     * Feign 클라이언트의 로그 레벨을 BASIC 으로 설정
+     * - 헤더/본문(FULL)은 남기지 않고, SampledFeignLogger 가 N건 중 1건만 한 줄로 기록
+     * - 요청 건수/지연은 http.client.requests 지표(/actuator/metrics)로 확인
      */
     @Bean
     Logger.Level feignLoggerLevel() {
-        return Logger.Level.FULL;
+        return Logger.Level.BASIC;
+    }
+
+    /**
+     * 표본 요청 로거(app.feign.log-sample-rate 건 중 1건)
+     */
+    @Bean
+    Logger feignLogger(@Value("${app.feign.log-sample-rate:100}") int sampleRate) {
+        return new SampledFeignLogger(sampleRate);
     }
 }
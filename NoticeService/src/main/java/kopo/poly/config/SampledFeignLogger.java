@@ -0,0 +1,54 @@
+package kopo.poly.config;
+
+import feign.Logger;
+import feign.Request;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Feign 요청 로그를 N건 중 1건만 남기는 로거(Logger.Level.BASIC 과 함께 사용)
+ * - 헤더/본문은 남기지 않습니다(FULL 은 토큰과 응답 본문을 매번 기록).
+ * - 한 줄: 메서드, 상태코드, 소요 시간. 전체 건수/지연은 http.client.requests 지표(feign-micrometer)로 봅니다.
+ * - 오류(IOException)는 표본과 관계없이 항상 남깁니다.
+ */
+@Slf4j
+public class SampledFeignLogger extends Logger {
+
+    private final int sampleRate;
+    private final AtomicLong seq = new AtomicLong();
+
+    /**
+     * @param sampleRate N건 중 1건 기록(1 이면 모두, 0 이하이면 기록하지 않음)
+     */
+    public SampledFeignLogger(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void log(String configKey, String format, Object... args) {
+        // 요청/응답 상세 로그는 남기지 않음(아래 logAndRebufferResponse 에서 한 줄만 기록)
+    }
+
+    @Override
+    protected void logRequest(String configKey, Level logLevel, Request request) {
+    }
+
+    @Override
+    protected Response logAndRebufferResponse(String configKey, Level logLevel, Response response,
+                                              long elapsedTime) throws IOException {
+        if (sampleRate > 0 && seq.getAndIncrement() % sampleRate == 0) {
+            log.info("feign | {} | {} | status={} | {}ms (1/{} sampled)", configKey,
+                    response.request().httpMethod(), response.status(), elapsedTime, sampleRate);
+        }
+        return response;
+    }
+
+    @Override
+    protected IOException logIOException(String configKey, Level logLevel, IOException ioe, long elapsedTime) {
+        log.warn("feign | {} | {}: {} | {}ms", configKey, ioe.getClass().getSimpleName(), ioe.getMessage(), elapsedTime);
+        return ioe;
+    }
+}
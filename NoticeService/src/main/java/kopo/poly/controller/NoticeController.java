@@ -9,15 +9,19 @@ import jakarta.validation.Valid;
 import kopo.poly.controller.response.CommonResponse;
 import kopo.poly.dto.MsgDTO;
 import kopo.poly.dto.NoticeDTO;
-import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.dto.NoticePageDTO;
+import kopo.poly.dto.NoticeSearchDTO;
+import kopo.poly.dto.TokenUserDTO;
 import kopo.poly.service.INoticeService;
-import kopo.poly.service.IUserAPIService;
+import kopo.poly.service.impl.AccessTokenVerifier;
 import kopo.poly.util.CmmUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
@@ -40,9 +44,14 @@ import java.util.Optional;
 public class NoticeController {
 
     private static final String HEADER_PREFIX = "Bearer "; // JWT 토큰 헤더 접두어
+    private static final String ROLE_USER = "ROLE_USER"; // 등록/수정/삭제 필요 권한(게이트웨이 규칙과 동일)
 
     private final INoticeService noticeService; // 공지사항 비즈니스 로직 서비스
-    private final IUserAPIService userAPIService; // 사용자 정보 조회 서비스
+    private final AccessTokenVerifier accessTokenVerifier; // 인증 토큰 검증기
+
+    // true: noticeList 가 기존처럼 전체 목록 반환, false: 첫 페이지(기본 페이지 크기)만 반환
+    @Value("${app.notice.list.unpaged-enabled:true}")
+    private boolean unpagedEnabled;
 
     /**
      * 인증 토큰이 Bearer 타입인지 확인합니다.
@@ -56,29 +65,33 @@ public class NoticeController {
     }
 
     /**
-     * 인증 토큰에서 userId를 추출합니다.
-     * UserService에 토큰을 전달해 사용자 정보를 받아옵니다.
+     * 인증 토큰을 검증하고 사용자 정보(userId = JWT sub, 권한)를 꺼냅니다.
+     * 토큰은 이 서비스에서 직접 검증합니다(AccessTokenVerifier, UserService 호출 없음).
      *
      * @param authorization 인증 토큰
-     * @return 추출된 userId
+     * @return 토큰의 사용자 정보, 검증 실패 시 null
      */
-    private String extractUserIdFromAuthorization(String authorization) {
-        log.info("{}.extractUserIdFromAuthorization Start!", getClass().getName()); // 추출 시작 로그
-
-        CommonResponse<UserInfoDTO> resp = userAPIService.getUserInfo(authorization); // 사용자 정보 조회
+    private TokenUserDTO authenticate(String authorization) {
+        try {
+            return accessTokenVerifier.verify(authorization);
 
-        if (resp == null || resp.getStatus() != 200 || resp.getData() == null) {
-            throw new IllegalStateException("토큰 검증 실패: 사용자 정보를 가져오지 못했습니다.");
+        } catch (JwtException | IllegalStateException e) {
+            log.info("{}.authenticate rejected: {}", getClass().getName(), e.getMessage()); // 검증 실패 로그
+            return null;
         }
+    }
 
-        String userId = CmmUtil.nvl(resp.getData().userId()); // userId 추출
-
-        if (userId.isEmpty()) {
-            throw new IllegalStateException("토큰 검증 실패: userId가 비어있습니다.");
+    /**
+     * 등록/수정/삭제 권한 확인 결과(null 이면 통과)
+     */
+    private ResponseEntity<CommonResponse<MsgDTO>> checkWriter(TokenUserDTO user) {
+        if (user == null) {
+            return CommonResponse.error(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED"); // 토큰 검증 실패
         }
-
-        log.info("{}.extractUserIdFromAuthorization End!", getClass().getName()); // 추출 종료 로그
-        return userId;
+        if (!user.hasRole(ROLE_USER)) {
+            return CommonResponse.error(HttpStatus.FORBIDDEN, "FORBIDDEN"); // 권한 없음
+        }
+        return null;
     }
 
     // ======================= 공개 API =======================
@@ -86,12 +99,13 @@ public class NoticeController {
     /**
      * 공지사항 리스트를 반환하는 API입니다.
      * 누구나 접근 가능하며, 공지사항 전체 목록을 조회합니다.
+     * 기존 화면 호환용이며, app.notice.list.unpaged-enabled=false 이면 첫 페이지만 반환합니다(noticePage 사용 권장).
      *
      * @return 공지사항 리스트
      */
     @Operation(
             summary = "공지사항 리스트 API",
-            description = "공지사항 리스트 정보를 반환합니다.",
+            description = "공지사항 리스트 정보를 반환합니다. (전체 목록, 페이지 조회는 noticePage 사용)",
             responses = {
                     @ApiResponse(responseCode = "200", description = "OK"),
                     @ApiResponse(responseCode = "404", description = "Page Not Found!")
@@ -100,13 +114,113 @@ public class NoticeController {
     @PostMapping("noticeList")
     public ResponseEntity<CommonResponse<List<NoticeDTO>>> noticeList() {
         log.info("{}.noticeList Start!", getClass().getName()); // 서비스 시작 로그
-        List<NoticeDTO> rList = Optional.ofNullable(noticeService.getNoticeList())
-                .orElseGet(Collections::emptyList); // 공지사항 리스트 조회
+
+        List<NoticeDTO> rList;
+        if (unpagedEnabled) {
+            rList = Optional.ofNullable(noticeService.getNoticeList())
+                    .orElseGet(Collections::emptyList); // 공지사항 리스트 조회
+        } else {
+            rList = noticeService.getNoticePage(null, null).list(); // 전체 조회 비활성화: 첫 페이지만
+        }
 
         log.info("{}.noticeList End! size={}", getClass().getName(), rList.size()); // 서비스 종료 로그
         return CommonResponse.ok(rList);
     }
 
+    /**
+     * 공지사항 리스트를 페이지 단위로 반환하는 API입니다(키셋 페이지).
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 그대로 전달하면 다음 페이지를 조회합니다.
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor(첫 페이지는 생략)
+     * @param size   페이지 크기(기본 app.notice.page.default-size, 최대 app.notice.page.max-size)
+     * @return 공지사항 목록과 다음 커서
+     */
+    @Operation(
+            summary = "공지사항 페이지 API",
+            description = """
+                    공지사항 목록을 페이지 단위로 반환합니다.
+                    - 정렬: 공지글(Y) 먼저, 글번호 내림차순
+                    - 다음 페이지: 응답의 nextCursor 를 cursor 로 전달(hasNext=false 이면 마지막 페이지)
+                    """,
+            parameters = {
+                    @Parameter(name = "cursor", description = "다음 페이지 커서(첫 페이지는 생략)"),
+                    @Parameter(name = "size", description = "페이지 크기")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서")
+            }
+    )
+    @PostMapping("noticePage")
+    public ResponseEntity<CommonResponse<NoticePageDTO>> noticePage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        log.info("{}.noticePage Start! cursor={} size={}", getClass().getName(), cursor, size); // 서비스 시작 로그
+
+        try {
+            NoticePageDTO rDTO = noticeService.getNoticePage(cursor, size); // 페이지 조회
+
+            log.info("{}.noticePage End! size={} hasNext={}", getClass().getName(), rDTO.list().size(), rDTO.hasNext()); // 서비스 종료 로그
+            return CommonResponse.ok(rDTO);
+
+        } catch (IllegalArgumentException e) {
+            log.info("{}.noticePage End! invalid cursor", getClass().getName()); // 서비스 종료 로그
+            return CommonResponse.badRequest(e.getMessage(), null);
+        }
+    }
+
+    /**
+     * 공지사항을 검색하는 API입니다.
+     * 누구나 접근 가능하며, 제목/본문에서 검색어와 관련된 공지사항을 관련도 순으로 페이지 단위로 조회합니다.
+     *
+     * @param query 검색어
+     * @param page  페이지 번호(0부터)
+     * @param size  페이지 크기
+     * @return 검색 결과 한 페이지
+     */
+    @Operation(
+            summary = "공지사항 검색 API",
+            description = """
+                    제목/본문에서 검색어와 관련된 공지사항을 관련도 순으로 반환합니다.
+                    - 검색어는 2글자씩(bigram) 나누어 찾으므로 띄어쓰기/조사와 관계없이 부분 일치합니다.
+                    - 등록/수정/삭제는 1초 이내에 검색 결과에 반영됩니다.
+                    """,
+            parameters = {
+                    @Parameter(name = "query", description = "검색어"),
+                    @Parameter(name = "page", description = "페이지 번호(0부터)"),
+                    @Parameter(name = "size", description = "페이지 크기")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK"),
+                    @ApiResponse(responseCode = "400", description = "검색어 없음 또는 조회 범위 초과"),
+                    @ApiResponse(responseCode = "503", description = "검색 색인 생성 중")
+            }
+    )
+    @PostMapping("noticeSearch")
+    public ResponseEntity<CommonResponse<NoticeSearchDTO>> noticeSearch(
+            @RequestParam(value = "query", required = false) String query,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        log.info("{}.noticeSearch Start! query={} page={} size={}", getClass().getName(), query, page, size); // 서비스 시작 로그
+
+        try {
+            NoticeSearchDTO rDTO = noticeService.searchNotice(query, page, size); // 검색
+
+            log.info("{}.noticeSearch End! total={}", getClass().getName(), rDTO.total()); // 서비스 종료 로그
+            return CommonResponse.ok(rDTO);
+
+        } catch (IllegalArgumentException e) {
+            log.info("{}.noticeSearch End! bad request: {}", getClass().getName(), e.getMessage()); // 서비스 종료 로그
+            return CommonResponse.badRequest(e.getMessage(), null);
+
+        } catch (IllegalStateException e) {
+            log.info("{}.noticeSearch End! {}", getClass().getName(), e.getMessage()); // 서비스 종료 로그
+            return CommonResponse.error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
     /**
      * 공지사항 상세 정보를 반환하는 API입니다.
      * readCntYn=Y인 경우 조회수를 증가시킵니다.
@@ -161,12 +275,13 @@ public class NoticeController {
             security = {@SecurityRequirement(name = "bearerAuth")},
             responses = {
                     @ApiResponse(responseCode = "200", description = "OK"),
-                    @ApiResponse(responseCode = "401", description = "UNAUTHORIZED")
+                    @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+                    @ApiResponse(responseCode = "403", description = "FORBIDDEN")
             }
     )
     @PostMapping("noticeInsert")
     public ResponseEntity<CommonResponse<MsgDTO>> noticeInsert(
-            @RequestBody NoticeDTO pDTO,
+            @Valid @RequestBody NoticeDTO pDTO,
             @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
 
         log.info("{}.noticeInsert Start!", getClass().getName()); // 서비스 시작 로그
@@ -175,8 +290,14 @@ public class NoticeController {
             return CommonResponse.error(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED"); // 인증 실패 시 반환
         }
 
+        TokenUserDTO user = authenticate(authorization); // 토큰 검증
+        ResponseEntity<CommonResponse<MsgDTO>> denied = checkWriter(user);
+        if (denied != null) {
+            return denied;
+        }
+
         try {
-            String userId = extractUserIdFromAuthorization(authorization); // 토큰에서 userId 추출
+            String userId = user.userId(); // 토큰(sub)의 userId
 
             NoticeDTO nDTO = NoticeDTO.addUserId(pDTO, userId); // 등록자 정보 추가
 
@@ -212,7 +333,8 @@ public class NoticeController {
             security = {@SecurityRequirement(name = "bearerAuth")},
             responses = {
                     @ApiResponse(responseCode = "200", description = "OK"),
-                    @ApiResponse(responseCode = "401", description = "UNAUTHORIZED")
+                    @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+                    @ApiResponse(responseCode = "403", description = "FORBIDDEN")
             }
     )
     @PostMapping("noticeUpdate")
@@ -227,8 +349,14 @@ public class NoticeController {
 
         }
 
+        TokenUserDTO user = authenticate(authorization); // 토큰 검증
+        ResponseEntity<CommonResponse<MsgDTO>> denied = checkWriter(user);
+        if (denied != null) {
+            return denied;
+        }
+
         try {
-            String userId = extractUserIdFromAuthorization(authorization); // 토큰에서 userId 추출
+            String userId = user.userId(); // 토큰(sub)의 userId
             NoticeDTO nDTO = NoticeDTO.addUserId(pDTO, userId); // 수정자 정보 추가
             log.info("noticeUpdate by userId={}, payload={}", userId, nDTO); // 수정 정보 로그
             noticeService.updateNoticeInfo(nDTO); // 공지사항 수정
@@ -261,7 +389,8 @@ public class NoticeController {
             security = {@SecurityRequirement(name = "bearerAuth")},
             responses = {
                     @ApiResponse(responseCode = "200", description = "OK"),
-                    @ApiResponse(responseCode = "401", description = "UNAUTHORIZED")
+                    @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+                    @ApiResponse(responseCode = "403", description = "FORBIDDEN")
             }
     )
     @PostMapping("noticeDelete")
@@ -276,8 +405,14 @@ public class NoticeController {
 
         }
 
+        TokenUserDTO user = authenticate(authorization); // 토큰 검증
+        ResponseEntity<CommonResponse<MsgDTO>> denied = checkWriter(user);
+        if (denied != null) {
+            return denied;
+        }
+
         try {
-            String userId = extractUserIdFromAuthorization(authorization); // 토큰에서 userId 추출
+            String userId = user.userId(); // 토큰(sub)의 userId
             log.info("noticeDelete by userId={}, noticeSeq={}", userId, pDTO.noticeSeq()); // 삭제 정보 로그
             noticeService.deleteNoticeInfo(pDTO); // 공지사항 삭제
             log.info("{}.noticeDelete End! result=success", getClass().getName()); // 서비스 종료 로그
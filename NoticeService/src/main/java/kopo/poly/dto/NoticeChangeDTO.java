@@ -0,0 +1,18 @@
+package kopo.poly.dto;
+
+import lombok.Builder;
+
+/**
+ * NoticeChangeDTO는 인스턴스(replica) 간 캐시 무효화를 위해 전파하는 공지사항 변경 이벤트입니다.
+ *
+ * @param origin    이벤트를 발행한 인스턴스 ID(자기 자신이 보낸 이벤트는 무시)
+ * @param noticeSeq 등록/수정/삭제된 공지사항 글번호(목록만 무효화할 때 null)
+ * @param version   변경 시각(epoch ms). 같은 글번호의 이벤트를 합칠 때 최신 값을 남기고, 전파 지연 측정에 사용
+ */
+@Builder
+public record NoticeChangeDTO(
+        String origin,
+        Long noticeSeq,
+        long version
+) {
+}
@@ -0,0 +1,45 @@
+package kopo.poly.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * NoticeCursor는 공지사항 목록 페이지의 다음 위치(키셋 커서)입니다.
+ * - 목록 정렬 기준(공지 여부 DESC, 글번호 DESC)의 마지막 행 값을 담습니다.
+ * - 클라이언트에는 "Y:123" 을 Base64(URL-safe)로 인코딩한 문자열로 전달하며, 클라이언트는 값을 해석하지 않고 그대로 돌려보냅니다.
+ *
+ * @param noticeYn  마지막 행의 공지 여부(Y/N)
+ * @param noticeSeq 마지막 행의 글번호
+ */
+public record NoticeCursor(String noticeYn, long noticeSeq) {
+
+    // 커서 문자열 생성
+    public String encode() {
+        String raw = noticeYn + ":" + noticeSeq;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor encode() 로 만든 문자열
+     * @return 커서 값
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static NoticeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(':');
+            String noticeYn = raw.substring(0, idx);
+            long noticeSeq = Long.parseLong(raw.substring(idx + 1));
+
+            if (!noticeYn.equals("Y") && !noticeYn.equals("N")) {
+                throw new IllegalArgumentException("noticeYn: " + noticeYn);
+            }
+            return new NoticeCursor(noticeYn, noticeSeq);
+
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
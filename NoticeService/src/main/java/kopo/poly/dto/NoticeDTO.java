@@ -1,7 +1,10 @@
 package kopo.poly.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.Pattern;
 import kopo.poly.repository.entity.NoticeEntity;
+import kopo.poly.repository.projection.NoticeListView;
+import kopo.poly.util.DateUtil;
 import lombok.Builder;
 
 import java.util.List;
@@ -14,14 +17,15 @@ public record NoticeDTO(
 
         Long noticeSeq, // 공지글의 고유 번호(기본키)
         String title, // 공지글 제목
-        String noticeYn, // 공지글 여부(Y:공지글, N:일반글)
+        @Pattern(regexp = "[YN]", message = "공지글 여부는 Y 또는 N 입니다.")
+        String noticeYn, // 공지글 여부(Y:공지글, N:일반글, 목록 커서에 그대로 들어가므로 다른 값은 받지 않음)
         String contents, // 공지글 내용
         String userId, // 작성자 아이디
         Long readCnt, // 조회수
         String regId, // 등록자 아이디
-        String regDt, // 등록일시
+        String regDt, // 등록일시(yyyy-MM-dd HH:mm:ss)
         String chgId, // 수정자 아이디
-        String chgDt, // 수정일시
+        String chgDt, // 수정일시(yyyy-MM-dd HH:mm:ss)
         String userName, // 등록자 이름
         String readCntYn // 조회수 증가 여부
 
@@ -50,6 +54,26 @@ public record NoticeDTO(
         return dto;
     }
 
+    // 조회수에 delta 를 더한 새로운 객체를 반환합니다(아직 DB 에 반영하지 않은 조회수 포함용).
+    public static NoticeDTO addReadCnt(NoticeDTO pDTO, long delta) {
+
+        NoticeDTO dto = NoticeDTO.builder()
+                .noticeSeq(pDTO.noticeSeq())
+                .title(pDTO.title())
+                .noticeYn(pDTO.noticeYn())
+                .contents(pDTO.contents())
+                .userId(pDTO.userId())
+                .userName(pDTO.userName())
+                .readCnt((pDTO.readCnt() == null ? 0 : pDTO.readCnt()) + delta)
+                .regId(pDTO.regId())
+                .regDt(pDTO.regDt())
+                .chgId(pDTO.chgId())
+                .chgDt(pDTO.chgDt())
+                .build();
+
+        return dto;
+    }
+
     // NoticeEntity 객체를 NoticeDTO 객체로 변환합니다.
     public static NoticeDTO from(NoticeEntity entity) {
 
@@ -62,17 +86,34 @@ public record NoticeDTO(
                 .userName(entity.getUserInfo().getUserName()) // 등록자 이름은 UserInfo에서 가져옵니다.
                 .readCnt(entity.getReadCnt())
                 .regId(entity.getRegId())
-                .regDt(entity.getRegDt())
+                .regDt(DateUtil.format(entity.getRegDt())) // DATETIME → 기존 문자열 형식(yyyy-MM-dd HH:mm:ss)
                 .chgId(entity.getChgId())
-                .chgDt(entity.getChgDt())
+                .chgDt(DateUtil.format(entity.getChgDt()))
+                .build();
+
+        return dto;
+    }
+
+    // 목록 조회 결과(NoticeListView)를 NoticeDTO 객체로 변환합니다.
+    // 본문(contents)은 조회하지 않으므로 응답에서도 빠집니다(@JsonInclude NON_DEFAULT).
+    public static NoticeDTO from(NoticeListView view) {
+
+        NoticeDTO dto = NoticeDTO.builder()
+                .noticeSeq(view.noticeSeq())
+                .title(view.title())
+                .noticeYn(view.noticeYn())
+                .userId(view.userId())
+                .userName(view.userName())
+                .readCnt(view.readCnt())
+                .regDt(DateUtil.format(view.regDt()))
                 .build();
 
         return dto;
     }
 
-    // NoticeEntity 리스트를 NoticeDTO 리스트로 변환합니다.
-    public static List<NoticeDTO> from(List<NoticeEntity> entity) {
-        return entity.stream()
+    // 목록 조회 결과 리스트를 NoticeDTO 리스트로 변환합니다.
+    public static List<NoticeDTO> from(List<NoticeListView> views) {
+        return views.stream()
                 .map(NoticeDTO::from)
                 .collect(toList());
     }
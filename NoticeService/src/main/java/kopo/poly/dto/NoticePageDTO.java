@@ -0,0 +1,22 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * NoticePageDTO는 공지사항 목록 한 페이지의 응답입니다.
+ *
+ * @param list       이번 페이지 공지사항 목록
+ * @param nextCursor 다음 페이지 요청 시 그대로 전달할 커서(마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record NoticePageDTO(
+        List<NoticeDTO> list,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,26 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * NoticeSearchDTO는 공지사항 검색 결과 한 페이지의 응답입니다.
+ *
+ * @param list    이번 페이지 공지사항 목록(관련도 순)
+ * @param total   검색어와 일치하는 공지사항 수
+ * @param page    페이지 번호(0부터)
+ * @param size    페이지 크기
+ * @param hasNext 다음 페이지 존재 여부
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record NoticeSearchDTO(
+        List<NoticeDTO> list,
+        int total,
+        int page,
+        int size,
+        boolean hasNext
+) {
+}
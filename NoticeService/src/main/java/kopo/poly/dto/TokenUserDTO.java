@@ -0,0 +1,24 @@
+package kopo.poly.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * TokenUserDTO는 검증된 Access 토큰에서 꺼낸 사용자 정보입니다.
+ *
+ * @param userId   회원 아이디(JWT sub)
+ * @param userName 회원 이름(토큰에 없으면 null)
+ * @param roles    권한 목록(ROLE_USER, ROLE_ADMIN 등)
+ */
+@Builder
+public record TokenUserDTO(
+        String userId,
+        String userName,
+        List<String> roles
+) {
+
+    public boolean hasRole(String role) {
+        return roles != null && roles.contains(role);
+    }
+}
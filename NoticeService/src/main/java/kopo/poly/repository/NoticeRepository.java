@@ -1,12 +1,15 @@
 package kopo.poly.repository;
 
 import kopo.poly.repository.entity.NoticeEntity;
+import kopo.poly.repository.projection.NoticeListView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,11 +17,41 @@ public interface NoticeRepository extends JpaRepository<NoticeEntity, Long> {
 
     /**
      * 모든 공지글 목록을 조회합니다.
-     * NoticeEntity와 연관된 UserInfo를 함께 조회하여 성능을 높입니다.
+     * 목록에 필요한 컬럼(본문 제외)과 작성자 이름만 조회합니다(NoticeListView).
      * 공지글 여부(Y/N)와 공지글 번호로 내림차순 정렬합니다.
      */
-    @Query("SELECT A FROM NoticeEntity  A JOIN FETCH A.userInfo ORDER BY A.noticeYn desc , A.noticeSeq DESC")
-    List<NoticeEntity> getNoticeList();
+    @Query("SELECT new kopo.poly.repository.projection.NoticeListView(A.noticeSeq, A.title, A.noticeYn, A.userId, U.userName, A.readCnt, A.regDt)"
+            + " FROM NoticeEntity A JOIN A.userInfo U ORDER BY A.noticeYn DESC, A.noticeSeq DESC")
+    List<NoticeListView> getNoticeList();
+
+    /**
+     * 공지글 목록 첫 페이지를 조회합니다(키셋 페이지).
+     * 정렬은 getNoticeList()와 같으며, pageable 의 크기만큼만 조회합니다(LIMIT).
+     */
+    @Query("SELECT new kopo.poly.repository.projection.NoticeListView(A.noticeSeq, A.title, A.noticeYn, A.userId, U.userName, A.readCnt, A.regDt)"
+            + " FROM NoticeEntity A JOIN A.userInfo U ORDER BY A.noticeYn DESC, A.noticeSeq DESC")
+    List<NoticeListView> getNoticeListFirst(Pageable pageable);
+
+    /**
+     * 커서(이전 페이지 마지막 행의 공지 여부, 글번호) 다음부터 공지글 목록을 조회합니다(키셋 페이지).
+     * OFFSET 을 쓰지 않으므로 뒤쪽 페이지도 앞쪽과 같은 비용으로 조회합니다(IX_NOTICE_YN_SEQ 인덱스 사용).
+     * 쿼리 예 : ... WHERE NOTICE_YN < 'Y' OR (NOTICE_YN = 'Y' AND NOTICE_SEQ < 123) ORDER BY NOTICE_YN DESC, NOTICE_SEQ DESC LIMIT 21
+     */
+    @Query("SELECT new kopo.poly.repository.projection.NoticeListView(A.noticeSeq, A.title, A.noticeYn, A.userId, U.userName, A.readCnt, A.regDt)"
+            + " FROM NoticeEntity A JOIN A.userInfo U"
+            + " WHERE A.noticeYn < :noticeYn OR (A.noticeYn = :noticeYn AND A.noticeSeq < :noticeSeq)"
+            + " ORDER BY A.noticeYn DESC, A.noticeSeq DESC")
+    List<NoticeListView> getNoticeListAfter(@Param("noticeYn") String noticeYn,
+                                            @Param("noticeSeq") Long noticeSeq,
+                                            Pageable pageable);
+
+    /**
+     * 글번호 목록에 해당하는 공지글을 목록 형식(본문 제외)으로 조회합니다(검색 결과 한 페이지).
+     * 순서는 보장하지 않으므로 호출하는 쪽에서 검색 순위대로 정렬합니다.
+     */
+    @Query("SELECT new kopo.poly.repository.projection.NoticeListView(A.noticeSeq, A.title, A.noticeYn, A.userId, U.userName, A.readCnt, A.regDt)"
+            + " FROM NoticeEntity A JOIN A.userInfo U WHERE A.noticeSeq IN :noticeSeqs")
+    List<NoticeListView> getNoticeListBySeqs(@Param("noticeSeqs") Collection<Long> noticeSeqs);
 
     /**
      * 공지글 번호로 단일 공지글을 조회합니다.
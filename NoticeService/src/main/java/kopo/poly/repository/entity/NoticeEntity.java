@@ -6,6 +6,8 @@ import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.cache.annotation.Cacheable;
 
+import java.time.LocalDateTime;
+
 /**
  * NoticeEntity 클래스는 공지글 정보를 데이터베이스에 저장하기 위한 JPA 엔티티입니다.
  * 각 필드는 공지글의 주요 정보와 관리 이력을 나타냅니다.
@@ -17,11 +19,16 @@ import org.springframework.cache.annotation.Cacheable;
  * - @DynamicInsert/@DynamicUpdate: 변경된 값만 DB에 반영하여 성능을 높입니다.
  * - @Cacheable: 엔티티 캐싱을 허용합니다.
  * - @OneToOne: 작성자 정보(UserInfoEntity)와 연관관계 설정
+ * - @Index: 목록 키셋 페이지(공지 여부 DESC, 글번호 DESC)용, 작성자별 조회(작성자, 글번호)용 복합 인덱스, 등록 일시 범위 조회용 인덱스
+ * (테이블/인덱스는 Flyway 가 db/migration/notice 의 SQL 로 만들며, 여기 정의는 참고용)
  */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "NOTICE")
+@Table(name = "NOTICE", indexes = {
+        @Index(name = "IX_NOTICE_YN_SEQ", columnList = "notice_yn, notice_seq"),
+        @Index(name = "IX_NOTICE_USER_SEQ", columnList = "user_id, notice_seq"),
+        @Index(name = "IX_NOTICE_REG_DTM", columnList = "reg_dtm")})
 @DynamicInsert
 @DynamicUpdate
 @Builder
@@ -56,14 +63,14 @@ public class NoticeEntity {
     @Column(name = "reg_id", updatable = false)
     private String regId; // 등록자 아이디
 
-    @Column(name = "reg_dt", updatable = false)
-    private String regDt; // 등록 일시
+    @Column(name = "reg_dtm", updatable = false)
+    private LocalDateTime regDt; // 등록 일시(DATETIME, 기존 문자열 컬럼 reg_dt 는 트리거로 함께 채움)
 
     @Column(name = "chg_id")
     private String chgId; // 수정자 아이디
 
-    @Column(name = "chg_dt")
-    private String chgDt; // 수정 일시
+    @Column(name = "chg_dtm")
+    private LocalDateTime chgDt; // 수정 일시(DATETIME, 기존 문자열 컬럼 chg_dt 는 트리거로 함께 채움)
 
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", insertable = false, updatable = false)
@@ -26,6 +26,8 @@ import java.io.Serializable;
  * - @NonNull: 해당 값이 반드시 필요함을 명시합니다.
  * - @DynamicInsert/@DynamicUpdate: 변경된 값만 DB에 반영하여 성능을 높입니다.
  * - @Cacheable: 엔티티 캐싱을 허용합니다.
+ * - 등록/수정 일시는 USER-SERVICE 의 마이그레이션(db/migration/user)이 관리하는 컬럼이라 매핑하지 않습니다.
+ * (공지사항 화면에서 쓰지 않고, 컬럼이 바뀌어도 이 서비스가 영향을 받지 않도록 함)
  */
 public class UserInfoEntity implements Serializable {
 
@@ -55,15 +57,9 @@ public class UserInfoEntity implements Serializable {
     @Column(name = "reg_id", updatable = false)
     private String regId; // 등록자 아이디(관리자 등록 시 사용)
 
-    @Column(name = "reg_dt", updatable = false)
-    private String regDt; // 등록 일시(YYYY-MM-DD HH:mm:ss)
-
     @Column(name = "chg_id")
     private String chgId; // 수정자 아이디
 
-    @Column(name = "chg_dt")
-    private String chgDt; // 수정 일시(YYYY-MM-DD HH:mm:ss)
-
     @Column(name = "roles") //권한 데이터는 ,를 구분자로 여러 개(예 : 관리자, 일반사용자) 정의 가능함
     private String roles; // 회원 권한 정보(예: ROLE_USER, ROLE_ADMIN)
 
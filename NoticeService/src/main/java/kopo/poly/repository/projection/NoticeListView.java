@@ -0,0 +1,27 @@
+package kopo.poly.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * NoticeListView는 공지사항 목록 화면용 조회 결과입니다.
+ * - 목록에 표시하는 컬럼만 조회하며, 본문(contents)은 읽지 않습니다.
+ * - JPQL 생성자 표현식(SELECT new ...)으로 바로 만들어지므로 엔티티로 만들거나 영속성 컨텍스트에서 관리하지 않습니다.
+ *
+ * @param noticeSeq 공지글 번호
+ * @param title     제목
+ * @param noticeYn  공지글 여부(Y/N)
+ * @param userId    작성자 아이디
+ * @param userName  작성자 이름(USER_INFO)
+ * @param readCnt   조회수
+ * @param regDt     등록일시
+ */
+public record NoticeListView(
+        Long noticeSeq,
+        String title,
+        String noticeYn,
+        String userId,
+        String userName,
+        Long readCnt,
+        LocalDateTime regDt
+) {
+}
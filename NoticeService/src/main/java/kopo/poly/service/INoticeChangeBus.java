@@ -0,0 +1,39 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.NoticeChangeDTO;
+
+/**
+ * INoticeChangeBus는 공지사항 변경 이벤트를 모든 인스턴스(replica)에 전파하는 채널입니다.
+ * - 구현체는 app.notice.cache.bus.type 으로 선택합니다.
+ * redis: Redis pub/sub(여러 인스턴스), local: 같은 JVM 안에서만 전달(단일 인스턴스, 테스트용)
+ * - 전달을 보장하지 않습니다. 유실된 이벤트는 캐시 TTL 로 복구됩니다.
+ */
+public interface INoticeChangeBus {
+
+    /**
+     * 변경 이벤트 발행(실패해도 예외를 던지지 않음)
+     */
+    void publish(NoticeChangeDTO change);
+
+    /**
+     * 변경 이벤트 수신자 등록
+     */
+    void subscribe(Listener listener);
+
+    /**
+     * 변경 이벤트 수신자
+     */
+    interface Listener {
+
+        /**
+         * 다른 인스턴스(또는 같은 JVM)에서 발행한 변경 이벤트
+         */
+        void onChange(NoticeChangeDTO change);
+
+        /**
+         * 채널에 (다시) 연결됨. 연결이 끊긴 동안의 이벤트는 받지 못했을 수 있음
+         */
+        default void onResync() {
+        }
+    }
+}
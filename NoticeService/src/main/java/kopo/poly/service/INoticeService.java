@@ -1,6 +1,8 @@
 package kopo.poly.service;
 
 import kopo.poly.dto.NoticeDTO;
+import kopo.poly.dto.NoticePageDTO;
+import kopo.poly.dto.NoticeSearchDTO;
 
 import java.util.List;
 
@@ -19,6 +21,28 @@ public interface INoticeService {
      */
     List<NoticeDTO> getNoticeList();
 
+    /**
+     * 공지사항 목록 한 페이지를 조회합니다(키셋 페이지).
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor(첫 페이지는 null)
+     * @param size   페이지 크기(최대 크기를 넘으면 최대 크기로 조정)
+     * @return 공지사항 목록과 다음 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    NoticePageDTO getNoticePage(String cursor, Integer size);
+
+    /**
+     * 제목/본문에서 검색어와 관련된 공지사항을 관련도 순으로 조회합니다.
+     *
+     * @param query 검색어
+     * @param page  페이지 번호(0부터)
+     * @param size  페이지 크기(최대 크기를 넘으면 최대 크기로 조정)
+     * @return 검색 결과 한 페이지
+     * @throws IllegalArgumentException 검색어가 비어 있거나 조회 가능한 범위를 넘은 경우
+     * @throws IllegalStateException    검색 색인을 만드는 중인 경우
+     */
+    NoticeSearchDTO searchNotice(String query, Integer page, Integer size);
+
     /**
      * 공지사항 상세 정보를 조회합니다.
      *
@@ -19,11 +19,12 @@ public interface IUserAPIService {
 
     /**
      * 인증 토큰을 이용해 사용자 정보를 조회합니다.
+     * - view=identity: 아이디/이름/권한만 조회(UserService 가 이메일/주소를 읽거나 복호화하지 않음)
      *
      * @param bearerToken 인증용 JWT 토큰
      * @return 사용자 정보가 담긴 CommonResponse<UserInfoDTO>
      */
-    @PostMapping("/user/v1/userInfo")
+    @PostMapping("/user/v1/userInfo?view=identity")
     CommonResponse<UserInfoDTO> getUserInfo(
             @RequestHeader(HttpHeaders.AUTHORIZATION) String bearerToken
     );
@@ -0,0 +1,218 @@
+package kopo.poly.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jwt.JWTParser;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import kopo.poly.auth.AccessTokenClaims;
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.TokenUserDTO;
+import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.service.IUserAPIService;
+import kopo.poly.util.CmmUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Access 토큰(Authorization: Bearer) 검증기
+ * <p>
+ * - 기본(local-verify=true): jwt.secret.key(HS256)로 이 서비스에서 직접 서명/만료를 검증하고 sub, 권한을 꺼냅니다.
+ * UserService 호출(게이트웨이 → UserService → DB)이 없습니다.
+ * - 검증한 토큰은 토큰 만료 시각 또는 token-cache.ttl-sec 중 이른 시각까지 캐시하여 같은 토큰의 재검증(HMAC, JSON 파싱)을 생략합니다.
+ * - remote-fallback=true 이면 로컬 검증 실패 시(키 교체 중 등) 기존처럼 UserService 에 물어봅니다.
+ * local-verify=false 이면 항상 UserService 에 물어봅니다(기존 방식).
+ * - UserService 결과도 같은 캐시에 넣으므로 같은 토큰으로 연속 수정하면 원격 호출은 1회입니다.
+ * - 캐시 키는 토큰 원문이 아니라 SHA-256 해시입니다(힙 덤프 등에 토큰이 남지 않도록).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenVerifier {
+
+    private static final String HEADER_PREFIX = "Bearer "; // JWT 토큰 헤더 접두어
+
+    private final JwtDecoder jwtDecoder;
+    private final IUserAPIService userAPIService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.notice.auth.local-verify:true}")
+    private boolean localVerify;
+
+    @Value("${app.notice.auth.remote-fallback:false}")
+    private boolean remoteFallback;
+
+    @Value("${app.notice.auth.token-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${app.notice.auth.token-cache.ttl-sec:300}")
+    private long cacheTtlSec;
+
+    private record Verified(TokenUserDTO user, Instant expiresAt) {
+    }
+
+    private Cache<String, Verified> tokenCache;
+    private Counter remoteCalls;
+
+    @PostConstruct
+    public void init() {
+        tokenCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, Verified>() {
+                    @Override
+                    public long expireAfterCreate(String token, Verified v, long currentTime) {
+                        long ttl = Duration.ofSeconds(cacheTtlSec).toNanos();
+                        if (v.expiresAt() != null) {
+                            ttl = Math.min(ttl, Duration.between(Instant.now(), v.expiresAt()).toNanos());
+                        }
+                        return Math.max(0, ttl);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Verified v, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, v, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Verified v, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenCache, "accessToken"); // cache.gets{cache=accessToken}
+        remoteCalls = Counter.builder("notice.auth.remote")
+                .description("UserService 에 토큰 검증을 요청한 횟수").register(meterRegistry);
+    }
+
+    /**
+     * Authorization 헤더의 토큰을 검증하고 사용자 정보를 반환합니다.
+     *
+     * @param authorization "Bearer <AT>" 형식의 헤더 값
+     * @return 토큰의 사용자 정보
+     * @throws JwtException          서명/만료/형식 오류
+     * @throws IllegalStateException UserService 검증 실패 또는 userId 없음
+     */
+    public TokenUserDTO verify(String authorization) {
+        String token = authorization.substring(HEADER_PREFIX.length()).trim();
+
+        // 같은 토큰으로 동시에 들어온 요청은 검증(원격 호출)을 1회만 하고 결과를 함께 사용
+        return tokenCache.get(hash(token), key -> load(authorization, token)).user();
+    }
+
+    private Verified load(String authorization, String token) {
+        if (!localVerify) {
+            return verifyRemote(authorization, token);
+        }
+
+        try {
+            Jwt jwt = jwtDecoder.decode(token); // 서명, 만료 검증
+
+            String userId = CmmUtil.nvl(jwt.getSubject());
+            if (userId.isEmpty()) {
+                throw new IllegalStateException("토큰 검증 실패: userId가 비어있습니다.");
+            }
+
+            TokenUserDTO user = TokenUserDTO.builder()
+                    .userId(userId)
+                    .userName(AccessTokenClaims.userName(jwt))
+                    .roles(AccessTokenClaims.roles(jwt))
+                    .build();
+
+            return new Verified(user, jwt.getExpiresAt());
+
+        } catch (JwtException e) {
+            if (!remoteFallback) throw e;
+
+            log.warn("AccessTokenVerifier | local verify failed, asking UserService | {}", e.getMessage());
+            return verifyRemote(authorization, token);
+        }
+    }
+
+    /**
+     * UserService(/user/v1/userInfo)에 토큰을 전달해 사용자 정보를 받아옵니다(기존 방식).
+     * 결과는 토큰의 exp(서명 검증 없이 읽음, UserService 가 이미 검증)까지 캐시합니다.
+     */
+    private Verified verifyRemote(String authorization, String token) {
+        remoteCalls.increment();
+
+        CommonResponse<UserInfoDTO> resp;
+        try {
+            resp = userAPIService.getUserInfo(authorization); // 사용자 정보 조회
+
+        } catch (FeignException e) {
+            throw new IllegalStateException("토큰 검증 실패: " + e.getMessage(), e);
+        }
+
+        if (resp == null || resp.getStatus() != 200 || resp.getData() == null) {
+            throw new IllegalStateException("토큰 검증 실패: 사용자 정보를 가져오지 못했습니다.");
+        }
+
+        String userId = CmmUtil.nvl(resp.getData().userId()); // userId 추출
+        if (userId.isEmpty()) {
+            throw new IllegalStateException("토큰 검증 실패: userId가 비어있습니다.");
+        }
+
+        // 게이트웨이는 /user/v1/** 를 ROLE_USER 에게만 허용하므로 권한 정보가 없으면 ROLE_USER 로 봄
+        String roles = CmmUtil.nvl(resp.getData().roles());
+        List<String> roleList = roles.isEmpty() ? List.of("ROLE_USER")
+                : Arrays.stream(roles.split("[,\\s]+"))
+                .filter(r -> !r.isBlank())
+                .map(r -> r.startsWith("ROLE_") ? r : "ROLE_" + r)
+                .toList();
+
+        TokenUserDTO user = TokenUserDTO.builder()
+                .userId(userId)
+                .userName(resp.getData().userName())
+                .roles(roleList)
+                .build();
+
+        return new Verified(user, unverifiedExpiresAt(token));
+    }
+
+    /**
+     * 토큰의 exp(서명 검증 없음). 읽을 수 없으면 null(token-cache.ttl-sec 만 적용)
+     */
+    private static Instant unverifiedExpiresAt(String token) {
+        try {
+            Date exp = JWTParser.parse(token).getJWTClaimsSet().getExpirationTime();
+            return exp == null ? null : exp.toInstant();
+
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 키(토큰의 SHA-256, Base64)
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM 에 SHA-256 이 있으므로 발생하지 않음
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package kopo.poly.service.impl;
+
+import kopo.poly.dto.NoticeChangeDTO;
+import kopo.poly.service.INoticeChangeBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 같은 JVM 안에서만 변경 이벤트를 전달하는 구현체(app.notice.cache.bus.type=local)
+ * - 단일 인스턴스 실행, 또는 테스트에서 여러 수신자를 붙여 무효화 동작을 확인할 때 사용합니다.
+ * - 발행 스레드에서 바로 수신자를 호출합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notice.cache.bus.type", havingValue = "local", matchIfMissing = true)
+public class LocalNoticeChangeBus implements INoticeChangeBus {
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(NoticeChangeDTO change) {
+        for (Listener listener : listeners) {
+            try {
+                listener.onChange(change);
+
+            } catch (Exception e) {
+                log.warn("LocalNoticeChangeBus | listener failed | {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,209 @@
+package kopo.poly.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kopo.poly.config.CacheConfig;
+import kopo.poly.dto.NoticeChangeDTO;
+import kopo.poly.dto.NoticeDTO;
+import kopo.poly.service.INoticeChangeBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * NoticeCache는 공지사항 조회 캐시(CacheConfig)의 조회/무효화를 한곳에서 처리하는 클래스입니다.
+ * - 상세: 글번호 → NoticeDTO (조회수는 DB 값)
+ * - 목록: 전체 목록/페이지 결과
+ * - 등록/수정/삭제는 changed(), 조회수 DB 반영은 evictInfo()로 무효화합니다.
+ * - 트랜잭션 안에서 호출하면 put/evict 는 커밋 후에 실행됩니다(TransactionAwareCacheManagerProxy).
+ * <p>
+ * 인스턴스(replica) 간 무효화:
+ * - 등록/수정/삭제는 changed()로 이 인스턴스 캐시를 비우고, 커밋 후 INoticeChangeBus 로 다른 인스턴스에 알립니다.
+ * - 받은 이벤트는 바로 적용하지 않고 모아 두었다가 coalesce-ms 마다 글번호별 1회 evict, 목록은 1회 clear 합니다.
+ * - 이벤트가 유실되면 TTL 만료로 복구되고, 버스 재연결 시에는 캐시 전체를 비웁니다.
+ * - 조회수 DB 반영(NoticeReadCounter)은 전파하지 않습니다. 다른 인스턴스의 상세 조회수는 최대 상세 TTL 만큼 늦을 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeCache implements INoticeChangeBus.Listener {
+
+    private final CacheManager cacheManager;
+    private final INoticeChangeBus noticeChangeBus;
+    private final MeterRegistry meterRegistry;
+
+    // 이 인스턴스 ID(자기가 발행한 이벤트 구분)
+    private final String origin = UUID.randomUUID().toString();
+
+    // 다른 인스턴스에서 받은 변경(글번호 → 최신 version). 주기적으로 한꺼번에 적용
+    private final ConcurrentHashMap<Long, Long> remoteChanges = new ConcurrentHashMap<>();
+    private final AtomicBoolean remoteListChanged = new AtomicBoolean();
+    private final AtomicBoolean resyncRequested = new AtomicBoolean();
+
+    private Counter published;
+    private Counter received;
+    private Counter applied;
+    private Timer lag;
+
+    @PostConstruct
+    public void init() {
+        published = Counter.builder("notice.cache.invalidation").tag("event", "published").register(meterRegistry);
+        received = Counter.builder("notice.cache.invalidation").tag("event", "received").register(meterRegistry);
+        applied = Counter.builder("notice.cache.invalidation").tag("event", "applied")
+                .description("합친 뒤 실제로 evict 한 글번호 수").register(meterRegistry);
+        lag = Timer.builder("notice.cache.invalidation.lag")
+                .description("다른 인스턴스에서 변경된 시각부터 이 인스턴스 캐시에서 지워질 때까지").register(meterRegistry);
+
+        noticeChangeBus.subscribe(this);
+    }
+
+    private Cache infoCache() {
+        return cacheManager.getCache(CacheConfig.NOTICE_INFO);
+    }
+
+    private Cache listCache() {
+        return cacheManager.getCache(CacheConfig.NOTICE_LIST);
+    }
+
+    /**
+     * 상세 조회(캐시에 없으면 loader 로 조회 후 저장, null 은 저장하지 않음)
+     * - Caffeine 의 원자적 get(key, loader)를 사용합니다. 같은 글번호의 evict 는 진행 중인 조회가 끝난 뒤 실행되므로,
+     *   조회 중에 들어온 무효화(수정, 조회수 DB 반영)보다 늦게 예전 값이 저장되는 일이 없습니다(get 후 put 방식의 경합 제거).
+     * - 같은 글번호를 동시에 조회하면 DB 조회는 1회만 합니다.
+     */
+    public NoticeDTO getInfo(Long noticeSeq, Supplier<NoticeDTO> loader) {
+        return (NoticeDTO) nativeCache(infoCache()).get(noticeSeq, k -> loader.get());
+    }
+
+    /**
+     * 목록 조회(캐시에 없으면 loader 로 조회 후 저장)
+     *
+     * @param key 목록 구분(전체 목록 "ALL", 페이지 "크기:커서")
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getList(String key, Supplier<T> loader) {
+        return (T) nativeCache(listCache()).get(key, k -> loader.get()); // getInfo 와 같은 원자적 조회
+    }
+
+    /**
+     * Spring Cache 아래의 Caffeine 캐시
+     * - Spring 의 get(key, Callable)은 allowNullValues=false 에서 null(없는 글번호)을 저장하려다 예외가 나므로,
+     *   null 을 저장하지 않고 돌려주는 Caffeine get(key, mappingFunction)을 직접 사용합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+
+    /**
+     * 상세 캐시 무효화(수정/삭제, 조회수 DB 반영 시)
+     */
+    public void evictInfo(Long noticeSeq) {
+        infoCache().evict(noticeSeq);
+    }
+
+    /**
+     * 목록 캐시 전체 무효화
+     */
+    public void evictLists() {
+        listCache().clear();
+    }
+
+    /**
+     * 공지사항 등록/수정/삭제 후 호출: 이 인스턴스 캐시를 비우고 다른 인스턴스에 알림(트랜잭션 안이면 커밋 후)
+     *
+     * @param noticeSeq 등록/수정/삭제한 글번호(null 이면 목록만 무효화)
+     */
+    public void changed(Long noticeSeq) {
+        if (noticeSeq != null) {
+            evictInfo(noticeSeq);
+        }
+        evictLists();
+
+        NoticeChangeDTO change = NoticeChangeDTO.builder()
+                .origin(origin)
+                .noticeSeq(noticeSeq)
+                .version(System.currentTimeMillis())
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 알리면 다른 인스턴스가 변경 전 값을 다시 캐시할 수 있음
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(change);
+                }
+            });
+
+        } else {
+            publish(change);
+        }
+    }
+
+    private void publish(NoticeChangeDTO change) {
+        noticeChangeBus.publish(change);
+        published.increment();
+    }
+
+    @Override
+    public void onChange(NoticeChangeDTO change) {
+        if (origin.equals(change.origin())) return; // 자기가 보낸 이벤트(이미 적용함)
+
+        received.increment();
+        if (change.noticeSeq() != null) {
+            remoteChanges.merge(change.noticeSeq(), change.version(), Math::max);
+        }
+        remoteListChanged.set(true);
+    }
+
+    @Override
+    public void onResync() {
+        resyncRequested.set(true);
+    }
+
+    /**
+     * 다른 인스턴스에서 받은 변경을 한꺼번에 적용(같은 글번호 이벤트가 몰려도 1회만 evict, 목록은 1회만 clear)
+     */
+    @Scheduled(fixedDelayString = "${app.notice.cache.bus.coalesce-ms:200}")
+    public void applyRemoteChanges() {
+        if (resyncRequested.getAndSet(false)) {
+            // 연결이 끊긴 동안의 이벤트를 알 수 없으므로 전체 무효화
+            infoCache().clear();
+            evictLists();
+            remoteChanges.clear();
+            remoteListChanged.set(false);
+            log.info("NoticeCache | resync | all entries cleared");
+            return;
+        }
+
+        if (!remoteListChanged.getAndSet(false)) return;
+
+        long now = System.currentTimeMillis();
+        int count = 0;
+        for (Long noticeSeq : remoteChanges.keySet()) {
+            Long version = remoteChanges.remove(noticeSeq);
+            if (version == null) continue;
+
+            evictInfo(noticeSeq);
+            lag.record(Duration.ofMillis(Math.max(0, now - version)));
+            count++;
+        }
+        evictLists();
+        applied.increment(count);
+
+        log.debug("NoticeCache | remote changes applied | notices={}", count);
+    }
+}
@@ -0,0 +1,126 @@
+package kopo.poly.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 기동 시 주요 조회 쿼리의 실행 계획(EXPLAIN)을 로그로 남기는 클래스입니다.
+ * - NoticeRepository 의 JPQL 이 만드는 SQL 과 같은 모양의 쿼리를 EXPLAIN 합니다(쿼리를 바꾸면 여기도 같이 변경).
+ * - 기대한 인덱스를 쓰지 않거나, 전체 스캔(type=ALL)의 예상 행 수가 warn-rows 를 넘거나, filesort/임시 테이블을 쓰면 WARN 으로 남깁니다.
+ * (인덱스가 없으면 옵티마이저가 LIMIT 때문에 기본키 역순 스캔을 고르기도 하므로 예상 행 수만으로는 알 수 없음)
+ * (인덱스가 빠진 DB 에 배포되면 기동 로그에서 바로 확인 가능, 인덱스는 db/migration/notice 에서 관리)
+ * - 실패해도 기동에는 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeQueryPlanCheck {
+
+    private static final String LIST_COLUMNS = "SELECT A.NOTICE_SEQ, A.TITLE, A.NOTICE_YN, A.USER_ID, U.USER_NAME, A.READ_CNT, A.REG_DTM"
+            + " FROM NOTICE A JOIN USER_INFO U ON U.USER_ID = A.USER_ID";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EXPLAIN 할 쿼리(이름, SQL, 바인딩 값 1개 또는 null, NOTICE 에 써야 할 인덱스)
+    private record PlanQuery(String name, String sql, Object param, String expectedKey) {
+    }
+
+    @Value("${app.notice.explain.enabled:true}")
+    private boolean enabled;
+
+    // 전체 스캔 예상 행 수가 이 값을 넘으면 WARN(작은 개발 DB 는 옵티마이저가 전체 스캔을 고를 수 있음)
+    @Value("${app.notice.explain.warn-rows:10000}")
+    private long warnRows;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        if (!enabled) return;
+
+        log.info("{}.check Start!", getClass().getName());
+
+        try {
+            // 커서는 목록 중간쯤(실제 다음 페이지 조회와 비슷한 범위)
+            Long maxSeq = jdbcTemplate.queryForObject("SELECT MAX(NOTICE_SEQ) FROM NOTICE", Long.class);
+            long cursor = Math.max(1, Objects.requireNonNullElse(maxSeq, 0L) / 2);
+
+            // 작성자는 회원 정보가 있는 실제 작성자(없는 아이디는 옵티마이저가 조회 없이 끝내 계획을 볼 수 없음)
+            String userId = jdbcTemplate.query("SELECT A.USER_ID FROM NOTICE A JOIN USER_INFO U ON U.USER_ID = A.USER_ID"
+                            + " ORDER BY A.NOTICE_SEQ DESC LIMIT 1",
+                    rs -> rs.next() ? rs.getString(1) : "");
+
+            List<PlanQuery> queries = new ArrayList<>();
+            queries.add(new PlanQuery("getNoticeListFirst", LIST_COLUMNS
+                    + " ORDER BY A.NOTICE_YN DESC, A.NOTICE_SEQ DESC LIMIT 21", null, "IX_NOTICE_YN_SEQ"));
+            queries.add(new PlanQuery("getNoticeListAfter", LIST_COLUMNS
+                    + " WHERE A.NOTICE_YN < 'N' OR (A.NOTICE_YN = 'N' AND A.NOTICE_SEQ < ?)"
+                    + " ORDER BY A.NOTICE_YN DESC, A.NOTICE_SEQ DESC LIMIT 21", cursor, "IX_NOTICE_YN_SEQ"));
+            // 작성자별 목록(IX_NOTICE_USER_SEQ)
+            queries.add(new PlanQuery("noticeListByAuthor", LIST_COLUMNS
+                    + " WHERE A.USER_ID = ? ORDER BY A.NOTICE_SEQ DESC LIMIT 21", userId, "IX_NOTICE_USER_SEQ"));
+            // 기간 조회(최근 1일, IX_NOTICE_REG_DTM)
+            queries.add(new PlanQuery("noticeListSince", LIST_COLUMNS
+                    + " WHERE A.REG_DTM >= ? ORDER BY A.REG_DTM DESC LIMIT 21", LocalDateTime.now().minusDays(1), "IX_NOTICE_REG_DTM"));
+            queries.add(new PlanQuery("findByNoticeSeq", "SELECT * FROM NOTICE A WHERE A.NOTICE_SEQ = ?", cursor, "PRIMARY"));
+
+            int warnings = 0;
+            for (PlanQuery q : queries) {
+                warnings += explain(q);
+            }
+
+            log.info("{}.check End! | queries={} warnings={}", getClass().getName(), queries.size(), warnings);
+
+        } catch (Exception e) {
+            log.warn("NoticeQueryPlanCheck | explain failed | {}", e.getMessage());
+        }
+    }
+
+    /**
+     * EXPLAIN 결과 한 줄씩 로그(문제가 있는 줄은 WARN)
+     *
+     * @return WARN 건수
+     */
+    private int explain(PlanQuery q) {
+        List<Map<String, Object>> rows = q.param() == null
+                ? jdbcTemplate.queryForList("EXPLAIN " + q.sql())
+                : jdbcTemplate.queryForList("EXPLAIN " + q.sql(), q.param());
+
+        int warnings = 0;
+        boolean expectedUsed = false;
+        for (Map<String, Object> row : rows) {
+            String type = String.valueOf(row.get("type"));
+            String extra = String.valueOf(row.get("Extra"));
+            long estimated = row.get("rows") == null ? 0 : Long.parseLong(String.valueOf(row.get("rows"))); // 드라이버에 따라 문자열
+
+            boolean fullScan = "ALL".equals(type) && estimated > warnRows;
+            boolean sorted = extra.contains("filesort") || extra.contains("temporary");
+            expectedUsed |= q.expectedKey().equals(row.get("key"));
+
+            String line = String.format("NoticeQueryPlanCheck | %s | table=%s type=%s key=%s rows=%d extra=%s",
+                    q.name(), row.get("table"), type, row.get("key"), estimated, extra);
+
+            if (fullScan || sorted) {
+                warnings++;
+                log.warn("{} | index missing or unused", line);
+            } else {
+                log.info(line);
+            }
+        }
+
+        if (!expectedUsed) {
+            warnings++;
+            log.warn("NoticeQueryPlanCheck | {} | expected index {} not used", q.name(), q.expectedKey());
+        }
+        return warnings;
+    }
+}
@@ -0,0 +1,164 @@
+package kopo.poly.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * NoticeReadCounter는 공지사항 조회수를 메모리에 모았다가 주기적으로 DB에 반영하는 클래스입니다(write-behind).
+ * - 조회할 때마다 UPDATE 하지 않고 글번호별 LongAdder 에 더하므로, 인기 글도 행 잠금을 기다리지 않습니다.
+ * - flush-ms 마다(그리고 종료 시) 아직 반영하지 않은 증가분만 모아 JDBC batch UPDATE 1회로 반영합니다.
+ * - DB 반영에 실패하면 증가분은 그대로 남아 다음 주기에 다시 반영합니다.
+ * - 화면에 보여줄 조회수는 DB 값 + pending() 입니다. 반영한 글번호는 상세 캐시를 무효화합니다(NoticeCache).
+ * - 오래(idle-flushes 주기 동안) 조회되지 않은 글번호는 메모리에서 지웁니다.
+ * 지우는 순간 동시에 들어온 조회 1~2건은 빠질 수 있습니다(조회수는 근사값).
+ * - 프로세스가 비정상 종료되면 마지막 flush 이후 증가분(최대 flush-ms 동안)은 반영되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeReadCounter {
+
+    private static final String UPDATE_SQL =
+            "UPDATE NOTICE SET READ_CNT = IFNULL(READ_CNT, 0) + ? WHERE NOTICE_SEQ = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final NoticeCache noticeCache;
+
+    // 이 횟수만큼 연속으로 증가분이 없던 글번호는 메모리에서 제거
+    @Value("${app.notice.read-cnt.idle-flushes:60}")
+    private int idleFlushes;
+
+    /**
+     * 글번호별 누적 조회수
+     * - added: 지금까지 더한 값(조회 요청 스레드가 증가)
+     * - flushed: 그중 DB 에 반영한 값(flush 스레드만 변경)
+     */
+    private static final class Counter {
+        final LongAdder added = new LongAdder();
+        volatile long flushed;
+        int idle;
+
+        long pending() {
+            return added.sum() - flushed;
+        }
+    }
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    // flush 동시 실행 방지(스케줄러와 종료 처리)
+    private final Object flushLock = new Object();
+
+    /**
+     * 조회수 1 증가(메모리)
+     */
+    public void increment(Long noticeSeq) {
+        counters.computeIfAbsent(noticeSeq, k -> new Counter()).added.increment();
+    }
+
+    /**
+     * 아직 DB 에 반영하지 않은 조회수
+     */
+    public long pending(Long noticeSeq) {
+        Counter c = counters.get(noticeSeq);
+        return c == null ? 0 : Math.max(0, c.pending());
+    }
+
+    @Scheduled(fixedDelayString = "${app.notice.read-cnt.flush-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        int n = flush();
+        log.info("NoticeReadCounter | flushed on shutdown | notices={}", n);
+    }
+
+    /**
+     * 증가분을 DB 에 반영
+     *
+     * @return 반영한 글 수
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            List<Long> seqs = new ArrayList<>();
+            List<Long> deltas = new ArrayList<>();
+            List<Counter> targets = new ArrayList<>();
+
+            // 글번호 순서로 UPDATE(여러 인스턴스가 동시에 반영할 때 잠금 순서를 같게)
+            for (Long seq : new TreeSet<>(counters.keySet())) {
+                Counter c = counters.get(seq);
+                if (c == null) continue;
+
+                long delta = c.pending();
+                if (delta > 0) {
+                    c.idle = 0;
+                    seqs.add(seq);
+                    deltas.add(delta);
+                    targets.add(c);
+
+                } else if (++c.idle >= idleFlushes && counters.remove(seq, c)) {
+                    // 제거 직전에 들어온 증가분이 있으면 이번에 함께 반영
+                    long residual = c.pending();
+                    if (residual > 0) {
+                        seqs.add(seq);
+                        deltas.add(residual);
+                        targets.add(c);
+                    }
+                }
+            }
+
+            if (seqs.isEmpty()) return 0;
+
+            try {
+                // 한 트랜잭션으로 반영(일부만 반영된 뒤 재시도되어 두 번 더해지는 일이 없도록)
+                new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                ps.setLong(1, deltas.get(i));
+                                ps.setLong(2, seqs.get(i));
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return seqs.size();
+                            }
+                        }));
+
+                for (int i = 0; i < targets.size(); i++) {
+                    targets.get(i).flushed += deltas.get(i);
+                    noticeCache.evictInfo(seqs.get(i)); // 캐시된 상세의 DB 조회수가 바뀌었으므로 무효화
+                }
+
+                log.debug("NoticeReadCounter | flushed | notices={}", seqs.size());
+                return seqs.size();
+
+            } catch (Exception e) {
+                // 반영하지 못한 증가분은 flushed 를 올리지 않았으므로 다음 주기에 다시 반영
+                log.warn("NoticeReadCounter | flush failed | notices={} | {}", seqs.size(), e.getMessage());
+
+                // 이번에 메모리에서 제거한 글번호는 다시 등록
+                for (int i = 0; i < targets.size(); i++) {
+                    counters.putIfAbsent(seqs.get(i), targets.get(i));
+                }
+                return 0;
+            }
+        }
+    }
+}
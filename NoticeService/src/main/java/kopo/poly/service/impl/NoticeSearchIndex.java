@@ -0,0 +1,243 @@
+package kopo.poly.service.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kopo.poly.dto.NoticeChangeDTO;
+import kopo.poly.service.INoticeChangeBus;
+import kopo.poly.util.NoticeInvertedIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공지사항 검색 색인(NoticeInvertedIndex) 관리
+ * <p>
+ * - 기동 후(ApplicationReadyEvent) 별도 스레드에서 NOTICE 테이블을 스트리밍으로 읽어 만들고, 완성 전에는 search()가 null 입니다.
+ * - 등록/수정/삭제는 변경 이벤트(INoticeChangeBus)로 받아 refresh-ms 마다 해당 글만 DB 에서 다시 읽어 반영합니다.
+ * 자기 인스턴스의 변경도 같은 경로로 받으므로, 검색 결과에는 최대 refresh-ms 늦게 반영됩니다.
+ * - 삭제 표시 비율이 rebuild-deleted-ratio 를 넘거나, 버스가 다시 연결되면(유실 가능) 전체를 새로 만듭니다.
+ * 새로 만드는 동안에는 이전 색인으로 검색하고, 그동안의 변경은 완성 후 반영합니다.
+ * - 만들기에 실패하면(DB 연결 실패 등) retry-initial-ms 부터 2배씩(최대 retry-max-ms) 늘려 가며 스케줄러가 다시 시도합니다.
+ * - 변경 반영(applyPending)은 스케줄러와 생성 스레드(완성 직후)에서 호출되므로 잠금으로 한 번에 하나만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeSearchIndex implements INoticeChangeBus.Listener {
+
+    private static final String SELECT_ALL = "SELECT NOTICE_SEQ, TITLE, CONTENTS FROM NOTICE";
+    private static final String SELECT_BY_SEQS = SELECT_ALL + " WHERE NOTICE_SEQ IN (:seqs)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final INoticeChangeBus noticeChangeBus;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.notice.search.enabled:true}")
+    private boolean enabled;
+
+    // 스트리밍 조회 fetch 크기
+    @Value("${app.notice.search.fetch-size:1000}")
+    private int fetchSize;
+
+    // 삭제 표시 비율이 이 값을 넘으면 새로 만듦
+    @Value("${app.notice.search.rebuild-deleted-ratio:0.2}")
+    private double rebuildDeletedRatio;
+
+    // 생성 실패 시 첫 재시도 간격(ms, 실패할 때마다 2배)
+    @Value("${app.notice.search.retry-initial-ms:1000}")
+    private long retryInitialMs;
+
+    // 생성 실패 시 최대 재시도 간격(ms)
+    @Value("${app.notice.search.retry-max-ms:60000}")
+    private long retryMaxMs;
+
+    // 동시에 점수를 계산할 수 있는 검색 수(0 이면 CPU 코어 수, 색인 메모리 외에 이 수 × 공지 수 × 8바이트)
+    @Value("${app.notice.search.threads:0}")
+    private int searchThreads;
+
+    // 이 비율보다 많은 공지에 있는 토큰은 드문 토큰과 함께 검색하면 드문 토큰으로 찾은 공지에만 점수를 더함(1 이상이면 사용 안 함)
+    @Value("${app.notice.search.max-df-ratio:0.1}")
+    private double maxDfRatio;
+
+    private volatile NoticeInvertedIndex index; // null 이면 아직 만들어지지 않음
+
+    // 반영할 글번호(변경 이벤트)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    // 변경 반영 직렬화(스케줄러 스레드와 생성 스레드)
+    private final ReentrantLock applyLock = new ReentrantLock();
+
+    private int buildFailures; // 연속 생성 실패 횟수(생성 스레드에서만 변경)
+    private volatile long nextBuildAt; // 다음 생성 시도 가능 시각(ms, 실패 후 대기)
+
+    private Timer buildTimer;
+
+    @PostConstruct
+    public void init() {
+        buildTimer = Timer.builder("notice.search.build")
+                .description("검색 색인 전체 생성 시간").register(meterRegistry);
+
+        Gauge.builder("notice.search.docs", this, s -> s.index == null ? 0 : s.index.docs())
+                .description("검색 색인 공지 수").register(meterRegistry);
+        Gauge.builder("notice.search.terms", this, s -> s.index == null ? 0 : s.index.terms())
+                .description("검색 색인 토큰(bigram) 수").register(meterRegistry);
+        Gauge.builder("notice.search.postings", this, s -> s.index == null ? 0 : s.index.postings())
+                .description("검색 색인 posting 수(메모리 = postings × 4 바이트)").register(meterRegistry);
+
+        noticeChangeBus.subscribe(this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        startRebuild();
+    }
+
+    /**
+     * 검색(색인이 아직 없으면 null)
+     */
+    public NoticeInvertedIndex.Hits search(String query, int offset, int limit) {
+        NoticeInvertedIndex current = index;
+        return current == null ? null : current.search(query, offset, limit);
+    }
+
+    @Override
+    public void onChange(NoticeChangeDTO change) {
+        if (change.noticeSeq() != null) {
+            pending.add(change.noticeSeq());
+        }
+    }
+
+    @Override
+    public void onResync() {
+        rebuildRequested.set(true); // 연결이 끊긴 동안의 변경을 알 수 없음
+    }
+
+    /**
+     * 받은 변경을 색인에 반영(글번호별로 DB 에서 다시 읽어 추가, 없으면 삭제)
+     * - 색인이 없거나 새로 만들어야 하면 생성을 시작합니다(실패 후에는 대기 시간이 지난 뒤).
+     * - 생성 스레드가 반영 중이면 이번 주기는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${app.notice.search.refresh-ms:500}")
+    public void applyPending() {
+        if (!enabled || !applyLock.tryLock()) return;
+        try {
+            applyPendingLocked();
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private void applyPendingLocked() {
+        if (rebuilding.get()) return;
+
+        NoticeInvertedIndex current = index;
+        boolean rebuild = current == null || rebuildRequested.get() || current.deletedRatio() > rebuildDeletedRatio;
+        if (rebuild && System.currentTimeMillis() >= nextBuildAt) {
+            startRebuild();
+            return;
+        }
+
+        if (current == null || pending.isEmpty()) return;
+
+        Set<Long> seqs = new HashSet<>();
+        for (Long seq : pending) {
+            if (pending.remove(seq)) seqs.add(seq);
+        }
+
+        try {
+            Set<Long> found = new HashSet<>();
+            jdbcTemplate.query(SELECT_BY_SEQS, new MapSqlParameterSource("seqs", seqs), rs -> {
+                long seq = rs.getLong(1);
+                current.add(seq, rs.getString(2), rs.getString(3));
+                found.add(seq);
+            });
+
+            for (Long seq : seqs) {
+                if (!found.contains(seq)) current.remove(seq); // 삭제된 글
+            }
+            log.debug("NoticeSearchIndex | changes applied | notices={}", seqs.size());
+
+        } catch (Exception e) {
+            pending.addAll(seqs); // 다음 주기에 다시 시도
+            log.warn("NoticeSearchIndex | apply failed | {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 새로 만들기(별도 스레드, 이미 진행 중이면 무시)
+     */
+    public void startRebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) return;
+
+        Thread t = new Thread(this::rebuild, "notice-search-index");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private void rebuild() {
+        // 진행 중인 반영이 끝난 뒤 읽기 시작(이미 반영한 변경은 커밋된 값이라 새 색인에도 들어가고, 이후 변경은 pending 에 남음)
+        applyLock.lock();
+        applyLock.unlock();
+
+        // 지금까지의 요청(기동 시 첫 구독의 onResync 포함)은 이번 전체 조회로 처리됨, 조회 중 다시 요청되면 한 번 더 만듦
+        rebuildRequested.set(false);
+
+        long start = System.nanoTime();
+        try {
+            NoticeInvertedIndex built = new NoticeInvertedIndex(
+                    searchThreads > 0 ? searchThreads : Runtime.getRuntime().availableProcessors(), maxDfRatio);
+
+            jdbcTemplate.getJdbcTemplate().query(con -> {
+                var ps = con.prepareStatement(SELECT_ALL);
+                ps.setFetchSize(fetchSize); // 전체 본문을 메모리에 올리지 않고 나눠 받음
+                return ps;
+            }, rs -> {
+                built.add(rs.getLong(1), rs.getString(2), rs.getString(3));
+            });
+
+            index = built;
+            buildFailures = 0;
+            nextBuildAt = 0;
+
+            long elapsed = System.nanoTime() - start;
+            buildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("NoticeSearchIndex | built | docs={} terms={} postings={} (~{} MB) elapsedMs={}",
+                    built.docs(), built.terms(), built.postings(), built.postings() * 4 / (1024 * 1024),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+        } catch (Exception e) {
+            // 이전 색인이 있으면 그대로 쓰고, 대기 시간이 지나면 스케줄러(applyPending)가 다시 시도
+            long delay = Math.min(retryMaxMs, retryInitialMs << Math.min(buildFailures++, 20));
+            nextBuildAt = System.currentTimeMillis() + delay;
+            rebuildRequested.set(true);
+            log.warn("NoticeSearchIndex | build failed | failures={} retryInMs={} | {}", buildFailures, delay, e.getMessage());
+
+        } finally {
+            rebuilding.set(false);
+        }
+
+        applyLock.lock();
+        try {
+            applyPendingLocked(); // 만드는 동안 쌓인 변경 반영
+        } finally {
+            applyLock.unlock();
+        }
+    }
+}
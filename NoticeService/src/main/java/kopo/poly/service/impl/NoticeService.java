@@ -1,18 +1,32 @@
 package kopo.poly.service.impl;
 
 import jakarta.transaction.Transactional;
+import kopo.poly.dto.NoticeCursor;
 import kopo.poly.dto.NoticeDTO;
+import kopo.poly.dto.NoticePageDTO;
+import kopo.poly.dto.NoticeSearchDTO;
 import kopo.poly.repository.NoticeRepository;
 import kopo.poly.repository.entity.NoticeEntity;
+import kopo.poly.repository.projection.NoticeListView;
 import kopo.poly.service.INoticeService;
 import kopo.poly.util.CmmUtil;
-import kopo.poly.util.DateUtil;
+import kopo.poly.util.NoticeInvertedIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * NoticeService는 공지사항 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -28,6 +42,38 @@ public class NoticeService implements INoticeService {
     // 생성자를 통해 NoticeRepository 객체를 주입받아 사용합니다.
     private final NoticeRepository noticeRepository;
 
+    // 조회수 write-behind 누적기
+    private final NoticeReadCounter noticeReadCounter;
+
+    // 상세/목록 조회 캐시
+    private final NoticeCache noticeCache;
+
+    // 제목/본문 검색 색인
+    private final NoticeSearchIndex noticeSearchIndex;
+
+    // true: 조회수를 메모리에 모아 주기적으로 반영, false: 조회마다 UPDATE(기존 방식)
+    @Value("${app.notice.read-cnt.write-behind:true}")
+    private boolean readCntWriteBehind;
+
+    // 페이지 크기 기본값
+    @Value("${app.notice.page.default-size:20}")
+    private int pageDefaultSize;
+
+    // 페이지 크기 최대값(요청 값이 더 커도 이 값까지만 조회)
+    @Value("${app.notice.page.max-size:100}")
+    private int pageMaxSize;
+
+    // 검색 페이지 크기 기본값/최대값
+    @Value("${app.notice.search.default-size:20}")
+    private int searchDefaultSize;
+
+    @Value("${app.notice.search.max-size:100}")
+    private int searchMaxSize;
+
+    // 검색 결과 중 조회 가능한 최대 순위(page * size + size 가 이 값을 넘으면 거부)
+    @Value("${app.notice.search.max-results:1000}")
+    private int searchMaxResults;
+
     /**
      * 모든 공지사항 목록을 조회합니다.
      *
@@ -36,14 +82,129 @@ public class NoticeService implements INoticeService {
     @Override
     public List<NoticeDTO> getNoticeList() {
         log.info("{} getNoticeList Start!", this.getClass().getName()); // 서비스 시작 로그
-        List<NoticeEntity> rList = noticeRepository.getNoticeList(); // 공지사항 전체 리스트 조회
-        List<NoticeDTO> nList = NoticeDTO.from(rList); // 엔티티를 DTO로 변환
+        List<NoticeDTO> nList = noticeCache.getList("ALL", () ->
+                NoticeDTO.from(noticeRepository.getNoticeList())); // 공지사항 전체 리스트 조회(본문 제외, 캐시)
         log.info("{} getNoticeList End!", this.getClass().getName()); // 서비스 종료 로그
         return nList;
     }
 
+    /**
+     * 공지사항 목록 한 페이지를 조회합니다(키셋 페이지).
+     * 다음 페이지 존재 여부를 알기 위해 size + 1 건을 조회하고, 초과분은 응답에서 제외합니다.
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor(첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 공지사항 목록과 다음 커서
+     */
+    @Override
+    public NoticePageDTO getNoticePage(String cursor, Integer size) {
+        log.info("{} getNoticePage Start! cursor={} size={}", this.getClass().getName(), cursor, size); // 서비스 시작 로그
+
+        int pageSize = (size == null || size <= 0) ? pageDefaultSize : Math.min(size, pageMaxSize);
+        String key = pageSize + ":" + CmmUtil.nvl(cursor);
+
+        NoticePageDTO rDTO = noticeCache.getList(key, () -> loadNoticePage(cursor, pageSize)); // 캐시에 없으면 DB 조회
+
+        log.info("{} getNoticePage End! size={} hasNext={}", this.getClass().getName(), rDTO.list().size(), rDTO.hasNext()); // 서비스 종료 로그
+        return rDTO;
+    }
+
+    /**
+     * 공지사항 목록 한 페이지를 DB 에서 조회합니다.
+     */
+    private NoticePageDTO loadNoticePage(String cursor, int pageSize) {
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<NoticeListView> rList;
+        if (CmmUtil.nvl(cursor).isEmpty()) {
+            rList = noticeRepository.getNoticeListFirst(limit); // 첫 페이지
+        } else {
+            NoticeCursor c = NoticeCursor.decode(cursor); // 커서 해석(형식 오류 시 IllegalArgumentException)
+            rList = noticeRepository.getNoticeListAfter(c.noticeYn(), c.noticeSeq(), limit); // 커서 다음 페이지
+        }
+
+        boolean hasNext = rList.size() > pageSize;
+        if (hasNext) {
+            rList = rList.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            NoticeListView last = rList.get(rList.size() - 1);
+            nextCursor = new NoticeCursor(last.noticeYn(), last.noticeSeq()).encode();
+        }
+
+        return NoticePageDTO.builder()
+                .list(NoticeDTO.from(rList))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 제목/본문에서 검색어와 관련된 공지사항을 관련도(BM25) 순으로 조회합니다.
+     * 순위는 메모리 색인(NoticeSearchIndex)에서 계산하고, 이번 페이지 글만 DB 에서 목록 형식으로 읽습니다.
+     *
+     * @param query 검색어
+     * @param page  페이지 번호(0부터)
+     * @param size  페이지 크기
+     * @return 검색 결과 한 페이지
+     */
+    @Override
+    public NoticeSearchDTO searchNotice(String query, Integer page, Integer size) {
+        log.info("{} searchNotice Start! query={} page={} size={}", this.getClass().getName(), query, page, size); // 서비스 시작 로그
+
+        String q = CmmUtil.nvl(query).trim();
+        if (q.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력하세요.");
+        }
+
+        int pageNo = (page == null || page < 0) ? 0 : page;
+        int pageSize = (size == null || size <= 0) ? searchDefaultSize : Math.min(size, searchMaxSize);
+        long offset = (long) pageNo * pageSize;
+        if (offset + pageSize > searchMaxResults) {
+            throw new IllegalArgumentException("검색 결과는 " + searchMaxResults + "건까지 조회할 수 있습니다.");
+        }
+
+        NoticeInvertedIndex.Hits hits = noticeSearchIndex.search(q, (int) offset, pageSize);
+        if (hits == null) {
+            throw new IllegalStateException("검색 색인을 만드는 중입니다.");
+        }
+
+        List<Long> seqs = new ArrayList<>(hits.seqs().length);
+        for (long seq : hits.seqs()) {
+            seqs.add(seq);
+        }
+
+        // DB 조회 결과를 검색 순위대로 정렬(색인 반영 전에 삭제된 글은 제외)
+        Map<Long, NoticeListView> rows = seqs.isEmpty() ? Map.of()
+                : noticeRepository.getNoticeListBySeqs(seqs).stream()
+                .collect(Collectors.toMap(NoticeListView::noticeSeq, Function.identity()));
+
+        List<NoticeDTO> rList = seqs.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(NoticeDTO::from)
+                .toList();
+
+        NoticeSearchDTO rDTO = NoticeSearchDTO.builder()
+                .list(rList)
+                .total(hits.total())
+                .page(pageNo)
+                .size(pageSize)
+                .hasNext(offset + pageSize < Math.min(hits.total(), searchMaxResults))
+                .build();
+
+        log.info("{} searchNotice End! total={} size={}", this.getClass().getName(), hits.total(), rList.size()); // 서비스 종료 로그
+        return rDTO;
+    }
+
     /**
      * 공지사항 상세 정보를 조회합니다.
+     * write-behind 가 켜져 있으면 조회수는 메모리에서 증가시키고, 응답 조회수는 DB 값 + 아직 반영하지 않은 증가분입니다.
+     * 상세 정보는 캐시에서 읽고, 없을 때만 DB 에서 조회합니다.
+     * write-behind 가 꺼진 상태에서 조회수를 올린 경우에는 캐시를 거치지 않고 DB 에서 읽습니다
+     * (캐시 무효화는 커밋 후에 실행되므로 캐시에는 올리기 전 조회수가 남아 있음).
      *
      * @param pDTO 조회할 공지사항 정보
      * @param type 조회수 증가 여부(true: 증가, false: 증가 안함)
@@ -53,12 +214,34 @@ public class NoticeService implements INoticeService {
     @Override
     public NoticeDTO getNoticeInfo(NoticeDTO pDTO, boolean type) {
         log.info("{} getNoticeInfo Start!", this.getClass().getName()); // 서비스 시작 로그
-        if (type) {
-            int res = noticeRepository.updateReadCnt(pDTO.noticeSeq()); // 조회수 증가
+        Long noticeSeq = pDTO.noticeSeq();
+
+        boolean readCntUpdated = type && !readCntWriteBehind;
+        if (readCntUpdated) {
+            int res = noticeRepository.updateReadCnt(noticeSeq); // 조회수 증가
             log.info("조회수 증가 결과: {}", res); // 조회수 증가 결과 로그
+            noticeCache.evictInfo(noticeSeq); // 조회수가 바뀌었으므로 캐시 무효화(커밋 후)
+        }
+
+        Supplier<NoticeDTO> loader = () -> {
+            NoticeEntity rEntity = noticeRepository.findByNoticeSeq(noticeSeq); // 공지사항 상세내역 조회
+            return rEntity == null ? null : NoticeDTO.from(rEntity); // 엔티티를 DTO로 변환
+        };
+        // 조회수를 DB 에서 올렸으면 같은 트랜잭션에서 바로 읽음(커밋 전 값은 캐시에 저장하지 않음)
+        NoticeDTO rDTO = readCntUpdated ? loader.get() : noticeCache.getInfo(noticeSeq, loader);
+        if (rDTO == null) {
+            throw new NoSuchElementException("공지 없음: " + noticeSeq);
+        }
+
+        if (type && readCntWriteBehind) {
+            // 조회수 증가(메모리, 주기적으로 DB 반영). 있는 글만 세므로 없는 글번호로 카운터/UPDATE 가 늘어나지 않음
+            noticeReadCounter.increment(noticeSeq);
+        }
+
+        long pending = noticeReadCounter.pending(noticeSeq);
+        if (pending > 0) {
+            rDTO = NoticeDTO.addReadCnt(rDTO, pending); // 아직 DB 에 반영하지 않은 조회수 포함
         }
-        NoticeEntity rEntity = noticeRepository.findByNoticeSeq(pDTO.noticeSeq()); // 공지사항 상세내역 조회
-        NoticeDTO rDTO = NoticeDTO.from(rEntity); // 엔티티를 DTO로 변환
         log.info("{} getNoticeInfo End!", this.getClass().getName()); // 서비스 종료 로그
         return rDTO;
     }
@@ -78,9 +261,10 @@ public class NoticeService implements INoticeService {
                 .orElseThrow(() -> new NoSuchElementException("공지 없음: " + noticeSeq)); // 기존 공지사항 조회
         entity.change(
                 CmmUtil.nvl(pDTO.title()),
-                CmmUtil.nvl(pDTO.noticeYn()),
+                noticeYn(pDTO.noticeYn()),
                 CmmUtil.nvl(pDTO.contents())
         ); // 수정할 값 저장
+        noticeCache.changed(noticeSeq); // 캐시 무효화 및 다른 인스턴스에 알림(커밋 후)
         log.info("{} updateNoticeInfo End!", this.getClass().getName()); // 서비스 종료 로그
     }
 
@@ -95,6 +279,7 @@ public class NoticeService implements INoticeService {
         Long noticeSeq = pDTO.noticeSeq();
         log.info("noticeSeq: {}", noticeSeq); // 삭제할 공지사항 번호 로그
         noticeRepository.deleteById(noticeSeq); // 데이터 삭제
+        noticeCache.changed(noticeSeq); // 캐시 무효화 및 다른 인스턴스에 알림
         log.info("{} deleteNoticeInfo End!", this.getClass().getName()); // 서비스 종료 로그
     }
 
@@ -107,20 +292,30 @@ public class NoticeService implements INoticeService {
     public void insertNoticeInfo(NoticeDTO pDTO) {
         log.info("{} insertNoticeInfo Start!", this.getClass().getName()); // 서비스 시작 로그
         String title = CmmUtil.nvl(pDTO.title());
-        String noticeYn = CmmUtil.nvl(pDTO.noticeYn());
+        String noticeYn = noticeYn(pDTO.noticeYn());
         String contents = CmmUtil.nvl(pDTO.contents());
         String userId = CmmUtil.nvl(pDTO.userId());
         log.info("title: {}", title);
         log.info("noticeYn: {}", noticeYn);
         log.info("contents: {}", contents);
         log.info("userId: {}", userId); // 입력값 로그
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS); // DATETIME(초 단위)
         NoticeEntity pEntity = NoticeEntity.builder()
                 .title(title).noticeYn(noticeYn).contents(contents).userId(userId).readCnt(0L)
-                .regId(userId).regDt(DateUtil.getDateTime("yyyy-MM-dd hh:mm:ss"))
-                .chgId(userId).chgDt(DateUtil.getDateTime("yyyy-MM-dd hh:mm:ss"))
+                .regId(userId).regDt(now)
+                .chgId(userId).chgDt(now)
                 .build(); // 공지사항 저장용 엔티티 생성
         noticeRepository.save(pEntity); // 공지사항 저장
+        noticeCache.changed(pEntity.getNoticeSeq()); // 목록 캐시 무효화 및 다른 인스턴스/검색 색인에 알림
         log.info("{} insertNoticeInfo End!", this.getClass().getName()); // 서비스 종료 로그
     }
 
+    /**
+     * 공지 여부를 Y/N 으로 정규화합니다(Y 가 아니면 N).
+     * - 목록 커서(NoticeCursor)는 Y/N 만 받으므로, 다른 값이 저장되면 다음 페이지 조회가 400 이 됩니다.
+     */
+    private static String noticeYn(String value) {
+        return "Y".equalsIgnoreCase(CmmUtil.nvl(value).trim()) ? "Y" : "N";
+    }
+
 }
@@ -0,0 +1,108 @@
+package kopo.poly.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kopo.poly.dto.NoticeChangeDTO;
+import kopo.poly.service.INoticeChangeBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Redis pub/sub 으로 변경 이벤트를 모든 인스턴스에 전달하는 구현체(app.notice.cache.bus.type=redis)
+ * - 메시지 형식: "origin|noticeSeq|version" (목록만 바뀐 경우 noticeSeq 는 빈 문자열)
+ * - pub/sub 은 연결이 끊긴 동안의 메시지를 보관하지 않으므로, 구독이 (다시) 맺어질 때 onResync()를 알려
+ * 수신자가 캐시 전체를 비우게 합니다. 그 외 유실은 캐시 TTL 로 복구됩니다.
+ * - 발행 실패(Redis 장애 등)는 로그만 남기고 요청 처리는 계속합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.notice.cache.bus.type", havingValue = "redis")
+public class RedisNoticeChangeBus implements INoticeChangeBus, MessageListener, SubscriptionListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+
+    @Value("${app.notice.cache.bus.channel:notice:changed}")
+    private String channel;
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private RedisMessageListenerContainer container;
+
+    @PostConstruct
+    public void init() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+
+        log.info("RedisNoticeChangeBus | subscribing | channel={}", channel);
+    }
+
+    @PreDestroy
+    public void destroy() throws Exception {
+        container.destroy();
+    }
+
+    @Override
+    public void publish(NoticeChangeDTO change) {
+        String msg = change.origin() + "|" + (change.noticeSeq() == null ? "" : change.noticeSeq()) + "|" + change.version();
+        try {
+            redisTemplate.convertAndSend(channel, msg);
+
+        } catch (Exception e) {
+            log.warn("RedisNoticeChangeBus | publish failed, other instances fall back to TTL | {} | {}", msg, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", -1);
+        if (parts.length != 3) {
+            log.warn("RedisNoticeChangeBus | invalid message | {}", new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+
+        NoticeChangeDTO change;
+        try {
+            change = NoticeChangeDTO.builder()
+                    .origin(parts[0])
+                    .noticeSeq(parts[1].isEmpty() ? null : Long.valueOf(parts[1]))
+                    .version(Long.parseLong(parts[2]))
+                    .build();
+
+        } catch (NumberFormatException e) {
+            log.warn("RedisNoticeChangeBus | invalid message | {}", String.join("|", parts));
+            return;
+        }
+
+        listeners.forEach(l -> l.onChange(change));
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        log.info("RedisNoticeChangeBus | subscribed | channel={}", new String(channel, StandardCharsets.UTF_8));
+        listeners.forEach(Listener::onResync);
+    }
+}
@@ -1,10 +1,21 @@
 package kopo.poly.util;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DateUtil {
 
+    // 화면/응답에 쓰는 기본 일시 형식(24시간제)
+    public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+    // 형식별 DateTimeFormatter 캐시(불변·스레드 안전하므로 공유). 호출마다 SimpleDateFormat 을 만들지 않음
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
     /**
      * 날짜, 시간 출력하기
      *
@@ -12,10 +23,27 @@ public class DateUtil {
      * @return date
      */
     public static String getDateTime(String fm) {
+        return FORMATTERS.computeIfAbsent(fm, DateTimeFormatter::ofPattern).format(LocalDateTime.now());
+    }
+
+    /**
+     * 일시를 기본 형식(yyyy-MM-dd HH:mm:ss) 문자열로 변환(null 이면 null)
+     */
+    public static String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : DATE_TIME.format(dateTime);
+    }
+
+    /**
+     * 기본 형식(yyyy-MM-dd HH:mm:ss) 문자열을 일시로 변환(비어 있거나 형식이 다르면 null)
+     */
+    public static LocalDateTime parse(String value) {
+        if (value == null || value.isBlank()) return null;
 
-        Date today = new Date();
-        SimpleDateFormat date = new SimpleDateFormat(fm);
+        try {
+            return LocalDateTime.parse(value.trim(), DATE_TIME);
 
-        return date.format(today);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 }
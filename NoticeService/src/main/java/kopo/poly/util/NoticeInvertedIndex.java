@@ -0,0 +1,593 @@
+package kopo.poly.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공지사항 제목/본문 검색용 역색인(메모리)
+ * <p>
+ * - 토큰: 글자 2-gram(bigram). 한글은 띄어쓰기/조사와 관계없이 부분 일치가 되도록 형태소 분석 대신 2글자씩 자릅니다.
+ * 예) "공지사항" → 공지, 지사, 사항 / 한 글자 단어는 그 글자 하나
+ * 글자/숫자가 아닌 문자는 단어 구분자이고, 영문은 소문자로 바꿉니다.
+ * - 점수: BM25(k1=1.2, b=0.75). 제목 토큰은 본문보다 TITLE_BOOST 배로 셉니다.
+ * - posting 1건 = int 1개(문서번호 24비트 + 빈도 8비트)이므로 메모리는 대략 4바이트 × (공지마다 서로 다른 bigram 수의 합)입니다.
+ * - 수정/삭제는 이전 문서를 삭제 표시만 하고 posting 은 남기므로, 삭제 비율이 커지면 새로 만들어야 합니다(deletedRatio()).
+ * - 검색은 동시에 여러 개, 추가/삭제는 한 번에 하나씩(읽기/쓰기 잠금) 실행합니다.
+ * - 점수 누적 버퍼(문서 수 × 8바이트)는 색인마다 search-threads 개만 두고 돌려 씁니다.
+ * 요청 스레드마다 두면 Tomcat 스레드 수 × 8MB(공지 100만 건)까지 늘어나므로, 버퍼가 모두 사용 중이면 반납될 때까지 기다립니다.
+ * (검색은 CPU 만 쓰므로 코어 수보다 많이 동시에 실행해도 처리량은 늘지 않음)
+ * - 문서 길이는 1바이트 구간값(norm)으로 저장하고, 검색어 토큰마다 (빈도, norm) → 점수 표를 미리 계산해 posting 마다 나눗셈 없이 더합니다.
+ * - 검색어에 드문 토큰이 있으면 흔한 토큰(df &gt; maxDfRatio × 문서 수, idf 가 낮아 순위에 거의 영향 없음)의 posting 은
+ * 드문 토큰으로 찾은 문서에만 더하므로, 흔한 토큰의 긴 posting 전체를 점수 버퍼에 쓰지 않습니다.
+ * (흔한 토큰만 들어 있는 공지는 결과에서 빠지고, 드문 토큰이 들어 있는 공지의 점수/순서는 같음)
+ * 흔한 토큰만으로 된 검색어는 모든 posting 을 계산합니다(공지 100만 건 기준 수십 ms, 최악의 경우).
+ */
+public class NoticeInvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_BOOST = 2;
+
+    private static final int TF_BITS = 8;
+    private static final int TF_MAX = (1 << TF_BITS) - 1;
+    private static final int MAX_DOCS = 1 << (Integer.SIZE - 1 - TF_BITS); // 문서번호 최대(삭제 표시 포함)
+
+    // 문서 길이 구간값(norm): 0~127 은 길이 그대로, 그 이상은 16 단위(최대 NORM_MAX), 삭제 표시는 NORM_DELETED
+    private static final int NORM_EXACT = 128;
+    private static final int NORM_STEP_BITS = 4;
+    private static final int NORM_MAX = 254;
+    private static final int NORM_DELETED = 255;
+    private static final int NORMS = 256;
+
+    // 점수 표에 미리 계산하는 빈도 범위(그 이상은 직접 계산)
+    private static final int TABLE_TF = 16;
+
+    // 점수 누적 버퍼(searchThreads 개, 사용 중이면 반납될 때까지 대기)
+    private final BlockingQueue<Scratch> scratchPool;
+
+    // 이 비율보다 많은 문서에 있는 토큰은 드문 토큰과 함께 검색할 때 후보를 만들지 않음(1 이상이면 사용 안 함)
+    private final double maxDfRatio;
+
+    // 토큰 → posting 목록
+    private final Map<Integer, Postings> terms = new HashMap<>();
+
+    // 문서번호 → 공지 글번호 / 토큰 수(제목 가중 포함)
+    private long[] seqs = new long[1024];
+    private int[] lengths = new int[1024];
+    private byte[] norms = new byte[1024]; // 문서 길이 구간값(삭제 표시 포함)
+
+    // 글번호 → 현재 문서번호
+    private final Map<Long, Integer> docIds = new HashMap<>();
+
+    private int nextDoc;
+    private int liveDocs;
+    private long liveLength;
+    private long postingCount;
+
+    private final TermCounter docTerms = new TermCounter(); // 추가 시 사용(쓰기 잠금 안에서만)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 검색 결과
+     *
+     * @param seqs   이번 페이지 글번호(점수 내림차순)
+     * @param scores 글번호별 점수
+     * @param total  검색어 토큰이 하나라도 들어 있는 공지 수(드문 토큰이 있으면 드문 토큰이 들어 있는 공지 수)
+     */
+    public record Hits(long[] seqs, float[] scores, int total) {
+    }
+
+    /**
+     * 동시 검색 버퍼 수 = CPU 코어 수, 흔한 토큰 기준 = 문서의 10%
+     */
+    public NoticeInvertedIndex() {
+        this(Runtime.getRuntime().availableProcessors(), 0.1);
+    }
+
+    /**
+     * @param searchThreads 동시에 점수를 계산할 수 있는 검색 수(점수 누적 버퍼 수, 메모리 = searchThreads × 문서 수 × 8바이트)
+     * @param maxDfRatio    흔한 토큰 기준(이 비율보다 많은 문서에 있는 토큰, 1 이상이면 모든 토큰으로 후보를 만듦)
+     */
+    public NoticeInvertedIndex(int searchThreads, double maxDfRatio) {
+        this.maxDfRatio = maxDfRatio;
+        int n = Math.max(1, searchThreads);
+        scratchPool = new ArrayBlockingQueue<>(n);
+        for (int i = 0; i < n; i++) {
+            scratchPool.add(new Scratch()); // 배열은 첫 검색 때 문서 수만큼 할당
+        }
+    }
+
+    /**
+     * 공지사항 추가(같은 글번호가 있으면 교체)
+     */
+    public void add(long noticeSeq, String title, String contents) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(noticeSeq);
+
+            if (nextDoc >= MAX_DOCS) {
+                throw new IllegalStateException("검색 색인 문서 수 초과: 새로 만들어야 합니다.");
+            }
+
+            docTerms.clear();
+            int length = docTerms.addText(title, TITLE_BOOST) + docTerms.addText(contents, 1);
+
+            int doc = nextDoc++;
+            if (doc == seqs.length) {
+                seqs = Arrays.copyOf(seqs, doc * 2);
+                lengths = Arrays.copyOf(lengths, doc * 2);
+                norms = Arrays.copyOf(norms, doc * 2);
+            }
+            seqs[doc] = noticeSeq;
+            lengths[doc] = length;
+            norms[doc] = (byte) norm(length);
+            docIds.put(noticeSeq, doc);
+            liveDocs++;
+            liveLength += length;
+
+            for (int i = 0; i < docTerms.size; i++) {
+                int slot = docTerms.used[i];
+                terms.computeIfAbsent(docTerms.keys[slot], k -> new Postings())
+                        .add(doc << TF_BITS | Math.min(docTerms.counts[slot], TF_MAX));
+            }
+            postingCount += docTerms.size;
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 공지사항 삭제
+     *
+     * @return 색인에 있었는지 여부
+     */
+    public boolean remove(long noticeSeq) {
+        lock.writeLock().lock();
+        try {
+            return removeDoc(noticeSeq);
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean removeDoc(long noticeSeq) {
+        Integer doc = docIds.remove(noticeSeq);
+        if (doc == null) return false;
+
+        norms[doc] = (byte) NORM_DELETED;
+        liveDocs--;
+        liveLength -= lengths[doc];
+        return true;
+    }
+
+    /**
+     * BM25 상위 결과 한 페이지
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 건수
+     * @param limit  가져올 건수
+     */
+    public Hits search(String query, int offset, int limit) {
+        TermCounter queryTerms = new TermCounter();
+        queryTerms.addText(query, 1);
+        if (queryTerms.size == 0 || limit <= 0) {
+            return new Hits(new long[0], new float[0], 0);
+        }
+
+        Scratch s = borrowScratch(); // 잠금 밖에서 대기(버퍼를 기다리는 동안 쓰기 잠금을 막지 않도록)
+        try {
+            return search(s, queryTerms, offset, limit);
+        } finally {
+            scratchPool.add(s);
+        }
+    }
+
+    private Hits search(Scratch s, TermCounter queryTerms, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return new Hits(new long[0], new float[0], 0);
+            }
+
+            s.ensure(nextDoc);
+
+            float avgLength = (float) liveLength / liveDocs;
+            float[] normFactors = new float[NORMS]; // norm → K1 × (1 - B + B × 길이 / 평균 길이)
+            for (int n = 0; n <= NORM_MAX; n++) {
+                normFactors[n] = K1 * (1 - B + B * normLength(n) / avgLength);
+            }
+            float[] table = new float[TABLE_TF * NORMS];
+
+            Postings[] lists = new Postings[queryTerms.size];
+            int m = 0;
+            for (int i = 0; i < queryTerms.size; i++) {
+                Postings p = terms.get(queryTerms.keys[queryTerms.used[i]]);
+                if (p != null) lists[m++] = p;
+            }
+
+            // 흔한 토큰(df > max-df-ratio × 문서 수)은 드문 토큰이 하나라도 있으면 후보를 만들지 않고,
+            // 드문 토큰으로 찾은 문서의 점수에만 더함(흔한 토큰만 있는 문서는 결과/total 에서 빠짐)
+            long maxDf = (long) (maxDfRatio * liveDocs);
+            boolean selective = false;
+            for (int i = 0; i < m; i++) {
+                if (lists[i].size <= maxDf) selective = true;
+            }
+
+            int touched = 0;
+            for (int i = 0; i < m; i++) {
+                Postings p = lists[i];
+                if (selective && p.size > maxDf) continue;
+                if (!fillTable(table, normFactors, p)) continue;
+                touched = accumulate(s, p, table, normFactors, touched);
+            }
+
+            if (selective && touched > 0) {
+                for (int i = 0; i < m; i++) {
+                    Postings p = lists[i];
+                    if (p.size <= maxDf) continue;
+                    if (!fillTable(table, normFactors, p)) continue;
+                    addToTouched(s, p, table, normFactors, touched);
+                }
+            }
+
+            Hits hits = topK(s, touched, offset, limit);
+
+            for (int i = 0; i < touched; i++) {
+                s.scores[s.touched[i]] = 0; // 다음 검색을 위해 사용한 칸만 초기화
+            }
+            return hits;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토큰 하나의 (빈도, norm) → 점수 표 계산(삭제 표시 칸은 0)
+     *
+     * @return 점수에 더할 토큰인지(idf &gt; 0)
+     */
+    private boolean fillTable(float[] table, float[] normFactors, Postings p) {
+        // df 는 삭제 표시된 문서를 포함(새로 만들기 전까지 약간 크게 계산됨)
+        float idf = (float) Math.log(1 + (liveDocs - p.size + 0.5) / (p.size + 0.5));
+        if (idf <= 0) return false;
+
+        for (int tf = 1; tf < TABLE_TF; tf++) {
+            for (int n = 0; n <= NORM_MAX; n++) {
+                table[tf * NORMS + n] = idf * tf * (K1 + 1) / (tf + normFactors[n]);
+            }
+        }
+        table[0] = idf; // 빈도가 큰 posting 계산용
+        return true;
+    }
+
+    /**
+     * posting 하나의 점수(삭제 표시면 0)
+     */
+    private static float score(int v, int norm, float[] table, float[] normFactors) {
+        int tf = v & TF_MAX;
+        if (tf < TABLE_TF) return table[tf * NORMS + norm];
+        if (norm == NORM_DELETED) return 0;
+        return table[0] * tf * (K1 + 1) / (tf + normFactors[norm]);
+    }
+
+    /**
+     * posting 목록 전체를 점수 버퍼에 더함
+     *
+     * @return 점수가 생긴 문서 수
+     */
+    private int accumulate(Scratch s, Postings p, float[] table, float[] normFactors, int touched) {
+        float[] scores = s.scores;
+        int[] data = p.data;
+        for (int j = 0, size = p.size; j < size; j++) {
+            int v = data[j];
+            int doc = v >>> TF_BITS;
+            float score = score(v, norms[doc] & 0xFF, table, normFactors);
+            if (score == 0) continue; // 삭제 표시
+
+            if (scores[doc] == 0) s.touched[touched++] = doc;
+            scores[doc] += score;
+        }
+        return touched;
+    }
+
+    /**
+     * 이미 점수가 있는 문서(touched)에만 흔한 토큰 점수를 더함
+     * - 후보가 적으면 문서마다 posting 을 이진 탐색(문서번호 오름차순), 많으면 posting 을 끝까지 훑음
+     */
+    private void addToTouched(Scratch s, Postings p, float[] table, float[] normFactors, int touched) {
+        float[] scores = s.scores;
+        int[] data = p.data;
+        int size = p.size;
+
+        if ((long) touched * (32 - Integer.numberOfLeadingZeros(size)) < size) {
+            for (int i = 0; i < touched; i++) {
+                int doc = s.touched[i];
+                int idx = -Arrays.binarySearch(data, 0, size, doc << TF_BITS) - 1; // 빈도 ≥ 1 이므로 항상 삽입 위치
+                if (idx < size && data[idx] >>> TF_BITS == doc) {
+                    scores[doc] += score(data[idx], norms[doc] & 0xFF, table, normFactors);
+                }
+            }
+            return;
+        }
+
+        for (int j = 0; j < size; j++) {
+            int v = data[j];
+            int doc = v >>> TF_BITS;
+            if (scores[doc] != 0) scores[doc] += score(v, norms[doc] & 0xFF, table, normFactors);
+        }
+    }
+
+    private Scratch borrowScratch() {
+        try {
+            return scratchPool.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("검색 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 문서 길이 → 구간값(0~127 은 그대로, 그 이상은 16 단위)
+     */
+    private static int norm(int length) {
+        if (length < NORM_EXACT) return length;
+        return Math.min(NORM_MAX, NORM_EXACT + ((length - NORM_EXACT) >> NORM_STEP_BITS));
+    }
+
+    /**
+     * 구간값 → 대표 길이(구간 가운데)
+     */
+    private static float normLength(int norm) {
+        if (norm < NORM_EXACT) return norm;
+        return NORM_EXACT + ((norm - NORM_EXACT) << NORM_STEP_BITS) + (1 << NORM_STEP_BITS) / 2f;
+    }
+
+    /**
+     * 점수 상위 offset + limit 건을 최소 힙으로 고른 뒤 offset 부터 limit 건 반환(점수가 같으면 최신 글 우선)
+     */
+    private Hits topK(Scratch s, int touched, int offset, int limit) {
+        int k = (int) Math.min((long) offset + limit, touched);
+        if (k <= offset) {
+            return new Hits(new long[0], new float[0], touched);
+        }
+
+        int[] heap = new int[k];
+        int size = 0;
+        for (int i = 0; i < touched; i++) {
+            int doc = s.touched[i];
+            if (size < k) {
+                heap[size] = doc;
+                siftUp(s.scores, heap, size++);
+            } else if (better(s.scores, doc, heap[0])) {
+                heap[0] = doc;
+                siftDown(s.scores, heap, 0, size);
+            }
+        }
+
+        // 힙에서 작은 것부터 꺼내 뒤에서부터 채움 → 내림차순
+        int[] ordered = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            ordered[i] = heap[0];
+            heap[0] = heap[--size];
+            siftDown(s.scores, heap, 0, size);
+        }
+
+        int n = ordered.length - offset;
+        long[] pageSeqs = new long[n];
+        float[] pageScores = new float[n];
+        for (int i = 0; i < n; i++) {
+            int doc = ordered[offset + i];
+            pageSeqs[i] = seqs[doc];
+            pageScores[i] = s.scores[doc];
+        }
+        return new Hits(pageSeqs, pageScores, touched);
+    }
+
+    private boolean better(float[] scores, int a, int b) {
+        return scores[a] != scores[b] ? scores[a] > scores[b] : seqs[a] > seqs[b];
+    }
+
+    private void siftUp(float[] scores, int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(scores, heap[parent], heap[i])) break;
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(float[] scores, int[] heap, int i, int size) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) break;
+            int worst = left;
+            int right = left + 1;
+            if (right < size && better(scores, heap[left], heap[right])) worst = right;
+            if (!better(scores, heap[i], heap[worst])) break;
+            swap(heap, i, worst);
+            i = worst;
+        }
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /**
+     * 검색 가능한 공지 수
+     */
+    public int docs() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 서로 다른 토큰 수
+     */
+    public int terms() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * posting 수(삭제 표시 포함). 메모리 ≈ postings × 4바이트
+     */
+    public long postings() {
+        lock.readLock().lock();
+        try {
+            return postingCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서 비율(수정/삭제가 쌓일수록 커짐)
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return nextDoc == 0 ? 0 : (double) (nextDoc - liveDocs) / nextDoc;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토큰 하나의 posting 목록(문서번호 << 8 | 빈도, 문서번호 오름차순)
+     */
+    private static final class Postings {
+        int[] data = new int[4];
+        int size;
+
+        void add(int v) {
+            if (size == data.length) data = Arrays.copyOf(data, size + (size >> 1) + 1);
+            data[size++] = v;
+        }
+    }
+
+    /**
+     * 문서/검색어 한 건의 토큰별 빈도(int 키 open addressing, 재사용)
+     * - bigram 토큰 키 = 앞 글자 << 16 | 뒷 글자, 한 글자 토큰 키 = 글자 << 16
+     */
+    private static final class TermCounter {
+        int[] keys = new int[256];
+        int[] counts = new int[256];
+        boolean[] filled = new boolean[256];
+        int[] used = new int[256];
+        int size;
+
+        void clear() {
+            for (int i = 0; i < size; i++) filled[used[i]] = false;
+            size = 0;
+        }
+
+        /**
+         * @return 추가한 토큰 수(weight 반영)
+         */
+        int addText(String text, int weight) {
+            if (text == null) return 0;
+
+            int added = 0;
+            char prev = 0;  // 이전 글자(단어 안), 0 이면 단어 시작
+            int wordLen = 0;
+            for (int i = 0, n = text.length(); i <= n; i++) {
+                char c = i < n ? normalize(text.charAt(i)) : 0;
+                if (c == 0) {
+                    if (wordLen == 1) {
+                        add(prev << 16, weight); // 한 글자 단어
+                        added += weight;
+                    }
+                    prev = 0;
+                    wordLen = 0;
+                    continue;
+                }
+                if (wordLen > 0) {
+                    add(prev << 16 | c, weight);
+                    added += weight;
+                }
+                prev = c;
+                wordLen++;
+            }
+            return added;
+        }
+
+        private static char normalize(char c) {
+            return Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : 0;
+        }
+
+        private void add(int key, int weight) {
+            if (size * 2 >= keys.length) grow();
+
+            int mask = keys.length - 1;
+            int slot = (key * 0x9E3779B9 >>> 16) & mask;
+            while (filled[slot] && keys[slot] != key) slot = (slot + 1) & mask;
+
+            if (!filled[slot]) {
+                filled[slot] = true;
+                keys[slot] = key;
+                counts[slot] = 0;
+                used[size++] = slot;
+            }
+            counts[slot] += weight;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            int[] oldUsed = used;
+            int oldSize = size;
+
+            int cap = keys.length * 2;
+            keys = new int[cap];
+            counts = new int[cap];
+            filled = new boolean[cap];
+            used = new int[cap];
+            size = 0;
+
+            int mask = cap - 1;
+            for (int i = 0; i < oldSize; i++) {
+                int key = oldKeys[oldUsed[i]];
+                int slot = (key * 0x9E3779B9 >>> 16) & mask;
+                while (filled[slot]) slot = (slot + 1) & mask;
+                filled[slot] = true;
+                keys[slot] = key;
+                counts[slot] = oldCounts[oldUsed[i]];
+                used[size++] = slot;
+            }
+        }
+    }
+
+    /**
+     * 점수 누적 버퍼(문서 수만큼, scratchPool 에서 빌려 씀)
+     */
+    private static final class Scratch {
+        float[] scores = new float[0];
+        int[] touched = new int[0];
+
+        void ensure(int docs) {
+            if (scores.length < docs) {
+                int cap = Math.max(docs, scores.length * 2);
+                scores = new float[cap];
+                touched = new int[cap];
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+-- 공지사항 테이블(기존 운영 DB 에 이미 있으면 건너뜀)
+CREATE TABLE IF NOT EXISTS NOTICE
+(
+    notice_seq BIGINT       NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(500) NOT NULL,
+    notice_yn  VARCHAR(1)   NOT NULL,
+    contents   TEXT         NOT NULL,
+    user_id    VARCHAR(100) NOT NULL,
+    read_cnt   BIGINT       NOT NULL DEFAULT 0,
+    reg_id     VARCHAR(100) NULL,
+    reg_dt     VARCHAR(20)  NULL,
+    chg_id     VARCHAR(100) NULL,
+    chg_dt     VARCHAR(20)  NULL,
+    PRIMARY KEY (notice_seq)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_general_ci;
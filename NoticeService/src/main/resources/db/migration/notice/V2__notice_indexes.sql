@@ -0,0 +1,5 @@
+-- 목록(키셋 페이지) : ORDER BY notice_yn DESC, notice_seq DESC 를 인덱스 역순 스캔으로 처리(filesort 없음)
+CREATE INDEX IF NOT EXISTS IX_NOTICE_YN_SEQ ON NOTICE (notice_yn, notice_seq);
+
+-- 작성자별 조회 : WHERE user_id = ? ORDER BY notice_seq DESC (USER_INFO 조인 키이기도 함)
+CREATE INDEX IF NOT EXISTS IX_NOTICE_USER_SEQ ON NOTICE (user_id, notice_seq);
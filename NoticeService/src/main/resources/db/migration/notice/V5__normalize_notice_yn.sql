@@ -0,0 +1,5 @@
+-- 공지 여부를 Y/N 으로 정리 : 이전 버전은 입력값을 그대로 저장했으므로 빈 값/소문자 등이 남아 있을 수 있음
+-- (목록 커서는 Y/N 만 받으므로 다른 값이 있으면 그 행 이후 페이지 조회가 실패, 애플리케이션과 같게 Y 가 아니면 N)
+UPDATE NOTICE
+SET notice_yn = CASE WHEN UPPER(TRIM(notice_yn)) = 'Y' THEN 'Y' ELSE 'N' END
+WHERE notice_yn IS NULL OR BINARY notice_yn NOT IN ('Y', 'N');
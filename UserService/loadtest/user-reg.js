@@ -0,0 +1,44 @@
+// 회원가입 부하 테스트 (k6)
+// 실행: k6 run -e BASE_URL=http://localhost:9001 -e VUS=64 -e ITER=3000 UserService/loadtest/user-reg.js
+// - 약 5%는 이미 사용한 아이디로 요청하여 중복(result=2) 처리도 함께 측정합니다.
+// - 비교: app.user.reg.batch.enabled=false/true, app.user.reg.hash-threads 값을 바꿔 가며 실행
+// - 서버 지표: /actuator/metrics/user.reg.insert, user.reg.batch.size, executor.queued?tag=name:reg-hash
+import http from 'k6/http';
+import {check} from 'k6';
+import exec from 'k6/execution';
+import {Counter} from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:9001';
+const VUS = parseInt(__ENV.VUS || '64');
+const ITER = parseInt(__ENV.ITER || '3000');
+const RUN = __ENV.RUN || `${Date.now()}`; // 실행마다 다른 아이디 접두어
+
+const results = new Counter('reg_result');
+
+export const options = {
+    scenarios: {
+        reg: {executor: 'shared-iterations', vus: VUS, iterations: ITER, maxDuration: '10m'},
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const i = exec.scenario.iterationInTest;
+    const unique = Math.floor(ITER * 0.95);
+    const userId = `lt${RUN}_${i % unique}`; // 마지막 5%는 앞에서 쓴 아이디
+
+    const res = http.post(`${BASE_URL}/reg/v1/insertUserInfo`, JSON.stringify({
+        userId: userId,
+        userName: '부하테스트',
+        password: 'pass1234!',
+        email: `${userId}@example.com`,
+        addr1: '서울시 강서구',
+        addr2: '101동 1001호',
+    }), {headers: {'Content-Type': 'application/json'}});
+
+    const result = res.json('data.result');
+    results.add(1, {result: `${result}`});
+    check(res, {'result is 1 or 2': () => result === 1 || result === 2});
+}
@@ -0,0 +1,99 @@
+package kopo.poly.jmh;
+
+import kopo.poly.util.EncryptUtil;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EncryptUtil 성능 측정 (기존 구현 vs 현재 구현)
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=EncryptUtilBenchmark
+ * - uaHash*   : 리프레시 세션 발급/검증마다 호출되는 User-Agent 해시
+ * - uaHashMiss: 매번 다른 입력(메모 미적중) 기준의 해시 비용
+ * - aes*      : 이메일 암호화/복호화
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EncryptUtilBenchmark {
+
+    private static final String UA = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private String encrypted;
+    private long seq;
+
+    @Setup
+    public void setup() throws Exception {
+        encrypted = EncryptUtil.encAES128CBC("test01@example.com");
+    }
+
+    @Benchmark
+    public String uaHashLegacy() throws Exception {
+        return legacySha256(UA);
+    }
+
+    @Benchmark
+    public String uaHash() {
+        return EncryptUtil.encHashSHA256(UA);
+    }
+
+    @Benchmark
+    public String uaHashMiss() {
+        return EncryptUtil.encHashSHA256(UA + (seq++));
+    }
+
+    @Benchmark
+    public String aesEncryptLegacy() throws Exception {
+        return legacyAes(Cipher.ENCRYPT_MODE, "test01@example.com");
+    }
+
+    @Benchmark
+    public String aesEncrypt() throws Exception {
+        return EncryptUtil.encAES128CBC("test01@example.com");
+    }
+
+    @Benchmark
+    public String aesDecryptLegacy() throws Exception {
+        return legacyAes(Cipher.DECRYPT_MODE, encrypted);
+    }
+
+    @Benchmark
+    public String aesDecrypt() throws Exception {
+        return EncryptUtil.decAES128CBC(encrypted);
+    }
+
+    // ===== 비교용: 변경 전 EncryptUtil 구현 =====
+
+    private static String legacySha256(String str) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(("PolyDataAnalysis" + str).getBytes());
+        byte[] hash = digest.digest();
+
+        StringBuilder sb = new StringBuilder();
+        for (byte b : hash) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static String legacyAes(int mode, String str) throws Exception {
+        SecretKeySpec keySpec = new SecretKeySpec("PolyTechnic12345".getBytes(StandardCharsets.UTF_8), "AES");
+        IvParameterSpec ivSpec = new IvParameterSpec(new byte[16]);
+
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(mode, keySpec, ivSpec);
+
+        if (mode == Cipher.ENCRYPT_MODE) {
+            return Base64.getEncoder().encodeToString(cipher.doFinal(str.getBytes(StandardCharsets.UTF_8)));
+        }
+        return new String(cipher.doFinal(Base64.getDecoder().decode(str)), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,65 @@
+package kopo.poly.jmh;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import kopo.poly.auth.HmacJwtEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.*;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AccessToken 발급 비용 비교 (NimbusJwtEncoder vs HmacJwtEncoder)
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtEncoderBenchmark
+ * - 처리량: ops/us
+ * - 토큰 1개당 할당량: gc.alloc.rate.norm (B/op)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtEncoderBenchmark {
+
+    private JwtEncoder nimbus;
+    private JwtEncoder hmac;
+
+    @Setup
+    public void setup() {
+        byte[] keyBytes = Base64.getDecoder().decode("12345678123456781234567812345678123456781234");
+        SecretKey key = new SecretKeySpec(keyBytes, "HmacSHA256");
+
+        nimbus = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        hmac = new HmacJwtEncoder(key);
+    }
+
+    // JwtTokenService.encodeAccess()와 같은 형태의 파라미터
+    private static JwtEncoderParameters accessParams() {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("poly")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .subject("hglee67")
+                .claim("username", "이협건")
+                .claim("type", "access")
+                .claim("roles", List.of("ROLE_USER"))
+                .build();
+
+        return JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims);
+    }
+
+    @Benchmark
+    public String nimbusEncoder() {
+        return nimbus.encode(accessParams()).getTokenValue();
+    }
+
+    @Benchmark
+    public String hmacEncoder() {
+        return hmac.encode(accessParams()).getTokenValue();
+    }
+}
@@ -3,9 +3,11 @@ package kopo.poly;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 //@EnableDiscoveryClient
 @EnableJpaRepositories
+@EnableScheduling
 @SpringBootApplication
 public class UserServiceApplication {
 
@@ -0,0 +1,90 @@
+package kopo.poly.auth;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Access 토큰(JWT) 클레임 구성/해석
+ * <p>
+ * - standard : iss, iat, exp, sub, username, type, roles(["ROLE_USER"]) (기존 형식)
+ * - compact  : iss, iat, exp, sub, r(권한 비트마스크), n(이름, 선택)
+ * 토큰은 쿠키와 Authorization 헤더로 매 요청 두 번씩 전달되므로 클레임 이름/값을 줄이면 그만큼 헤더가 작아집니다.
+ * 해석(roles, userName)은 두 형식을 모두 지원하므로 프로필을 바꿔도 이미 발급된 토큰은 그대로 사용할 수 있습니다.
+ */
+public final class AccessTokenClaims {
+
+    public static final String CLAIM_USERNAME = "username";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_TYPE = "type";
+    public static final String TYPE_ACCESS = "access";
+
+    public static final String CLAIM_ROLE_BITS = "r"; // compact: UserRole.bit 의 OR 값
+    public static final String CLAIM_NAME = "n";      // compact: 이름(jwt.token.access.compact.include-name=true 일 때만)
+
+    private AccessTokenClaims() {
+    }
+
+    /**
+     * compact 형식 클레임 추가
+     * - UserRole 에 없는 권한은 비트로 표현할 수 없으므로 roles 클레임으로 함께 넣습니다.
+     */
+    public static void compact(JwtClaimsSet.Builder builder, String userName, Collection<String> roles,
+                               boolean includeName) {
+        long bits = 0;
+        List<String> others = new ArrayList<>();
+        for (String role : roles) {
+            UserRole known = find(role);
+            if (known != null) {
+                bits |= known.getBit();
+            } else {
+                others.add(role);
+            }
+        }
+
+        builder.claim(CLAIM_ROLE_BITS, bits);
+        if (!others.isEmpty()) builder.claim(CLAIM_ROLES, others);
+        if (includeName && userName != null) builder.claim(CLAIM_NAME, userName);
+    }
+
+    /**
+     * 권한 목록(standard: roles, compact: r + roles)
+     */
+    public static List<String> roles(Jwt jwt) {
+        List<String> roles = new ArrayList<>();
+
+        Object list = jwt.getClaims().get(CLAIM_ROLES);
+        if (list instanceof Collection<?> c) {
+            c.forEach(v -> roles.add(String.valueOf(v)));
+        }
+
+        Object bits = jwt.getClaims().get(CLAIM_ROLE_BITS);
+        if (bits instanceof Number n) {
+            long mask = n.longValue();
+            for (UserRole role : UserRole.values()) {
+                if ((mask & role.getBit()) != 0) roles.add(role.getValue());
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * 사용자 이름(standard: username, compact: n). 없으면 null
+     */
+    public static String userName(Jwt jwt) {
+        String name = jwt.getClaimAsString(CLAIM_USERNAME);
+        return name != null ? name : jwt.getClaimAsString(CLAIM_NAME);
+    }
+
+    // "ROLE_USER" / "USER" 모두 허용
+    private static UserRole find(String role) {
+        String name = role.startsWith("ROLE_") ? role.substring(5) : role;
+        for (UserRole r : UserRole.values()) {
+            if (r.name().equals(name)) return r;
+        }
+        return null;
+    }
+}
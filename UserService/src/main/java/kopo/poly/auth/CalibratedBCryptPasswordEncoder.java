@@ -0,0 +1,99 @@
+package kopo.poly.auth;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 호스트 성능을 측정해 목표 시간에 맞는 cost(strength)를 고른 BCrypt 인코더
+ * <p>
+ * 핵심 개념:
+ * - 기동 시 최소 cost로 해시 시간을 측정하고, cost가 1 오를 때마다 시간이 2배가 되는 특성으로 목표 cost를 계산합니다.
+ * - 저장된 해시의 cost가 현재 cost와 다르면 upgradeEncoding()이 true를 반환하여 로그인 성공 시 재해시됩니다.
+ * - 기본 BCryptPasswordEncoder는 cost가 "낮을 때"만 재해시하지만, 여기서는 높아진 경우(CPU 축소)도 재조정합니다.
+ */
+@Slf4j
+@Getter
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    // BCrypt 해시 형식: $2a$10$ + 53자(salt + hash)
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    // 측정용 샘플 비밀번호(실제 사용자 비밀번호와 무관)
+    private static final String SAMPLE_PASSWORD = "calibration-Sample-Pw#2025";
+
+    // BCrypt 라이브러리가 허용하는 cost 범위
+    private static final int BCRYPT_MIN = 4;
+    private static final int BCRYPT_MAX = 31;
+
+    // 현재 해시 생성에 사용하는 cost
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * 목표 시간(targetMs)을 넘지 않는 가장 높은 cost를 측정하여 인코더를 생성합니다.
+     *
+     * @param targetMs    해시 1회 목표 시간(ms)
+     * @param minStrength 보안상 허용하는 최소 cost (측정 결과가 목표를 넘어도 이 값 아래로 내리지 않음)
+     * @param maxStrength 허용하는 최대 cost
+     * @return 측정된 cost가 적용된 인코더
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(long targetMs, int minStrength, int maxStrength) {
+        int min = Math.max(BCRYPT_MIN, minStrength);
+        int max = Math.min(BCRYPT_MAX, Math.max(min, maxStrength));
+
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(min);
+        probe.encode(SAMPLE_PASSWORD); // JIT 워밍업
+
+        // 3회 측정 후 가장 빠른 값 사용(GC/스케줄링 잡음 제거)
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode(SAMPLE_PASSWORD);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        // cost +1 마다 연산량 2배 → 목표 시간을 넘지 않는 최대 cost 계산
+        double expectedMs = bestNanos / 1_000_000.0;
+        int strength = min;
+        while (strength < max && expectedMs * 2 <= targetMs) {
+            expectedMs *= 2;
+            strength++;
+        }
+
+        log.info("BCrypt calibration | measured(cost={})={}ms | targetMs={} | selected cost={} (expected {}ms)",
+                min, String.format("%.1f", bestNanos / 1_000_000.0), targetMs, strength,
+                String.format("%.1f", expectedMs));
+
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 저장된 해시의 cost를 추출합니다.
+     *
+     * @param encodedPassword BCrypt 해시 문자열
+     * @return cost 값, BCrypt 형식이 아니면 -1
+     */
+    public static int extractStrength(String encodedPassword) {
+        if (encodedPassword == null) return -1;
+        Matcher m = BCRYPT_PATTERN.matcher(encodedPassword);
+        return m.find() ? Integer.parseInt(m.group(2)) : -1;
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 cost와 다르면 재해시 대상입니다.
+     * (BCrypt 형식이 아닌 값은 matches()에서 이미 실패하므로 재해시하지 않습니다.)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int stored = extractStrength(encodedPassword);
+        return stored > 0 && stored != strength;
+    }
+}
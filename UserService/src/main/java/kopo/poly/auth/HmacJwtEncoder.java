@@ -0,0 +1,182 @@
+package kopo.poly.auth;
+
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.*;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * HS256 전용 경량 JwtEncoder
+ * <p>
+ * 핵심 개념:
+ * - NimbusJwtEncoder는 호출마다 JWK 선택, JWSObject/JWTClaimsSet 변환, JSON 직렬화를 거치므로 객체 생성이 많습니다.
+ * - 이 인코더는 알고리즘이 HS256으로 고정된 경우에만 사용하며, 헤더(base64url)는 생성 시 한 번만 만들어 둡니다.
+ * - 클레임은 작은 스트리밍 JSON 작성기로 바로 직렬화하고, 스레드별로 재사용하는 Mac 인스턴스로 서명합니다.
+ * - 결과 토큰은 NimbusJwtDecoder(HS256)로 그대로 검증됩니다.
+ * <p>
+ * 제약:
+ * - JwsHeader에 alg=HS256 외의 헤더(kid, typ 등)가 있으면 JwtEncodingException을 발생시킵니다.
+ */
+public class HmacJwtEncoder implements JwtEncoder {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+
+    // {"alg":"HS256"} → base64url (NimbusJwtEncoder가 만드는 헤더와 동일)
+    private static final String HEADER_JSON = "{\"alg\":\"HS256\"}";
+
+    private static final Base64.Encoder B64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // 미리 계산한 헤더 부분("eyJhbGciOiJIUzI1NiJ9.")
+    private final byte[] headerPart;
+
+    private final Map<String, Object> headers = Map.of("alg", MacAlgorithm.HS256.getName());
+
+    // 스레드별 Mac 인스턴스(Mac은 thread-safe 하지 않으므로 공유하지 않음)
+    private final ThreadLocal<Mac> macHolder;
+
+    // 스레드별 JSON 작성 버퍼(토큰마다 새 StringBuilder를 만들지 않음)
+    private final ThreadLocal<StringBuilder> jsonHolder = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    public HmacJwtEncoder(SecretKey key) {
+        if (key == null) throw new IllegalArgumentException("secret key cannot be null");
+
+        this.headerPart = (B64URL.encodeToString(HEADER_JSON.getBytes(StandardCharsets.UTF_8)) + ".")
+                .getBytes(StandardCharsets.US_ASCII);
+
+        this.macHolder = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_SHA256);
+                mac.init(key);
+                return mac;
+            } catch (Exception e) {
+                throw new IllegalStateException("HmacSHA256 초기화 실패", e);
+            }
+        });
+
+        macHolder.get(); // 키/알고리즘 오류를 기동 시점에 확인
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        JwsHeader jwsHeader = parameters.getJwsHeader();
+        if (jwsHeader != null && !isPlainHs256(jwsHeader)) {
+            throw new JwtEncodingException("HmacJwtEncoder는 alg=HS256 단일 헤더만 지원합니다: " + jwsHeader.getHeaders());
+        }
+
+        JwtClaimsSet claims = parameters.getClaims();
+
+        // 1) 클레임 JSON → base64url
+        StringBuilder json = jsonHolder.get();
+        json.setLength(0);
+        writeObject(json, claims.getClaims());
+        byte[] payload = B64URL.encode(json.toString().getBytes(StandardCharsets.UTF_8));
+
+        // 2) 서명 입력값(header.payload) 구성
+        byte[] signingInput = new byte[headerPart.length + payload.length];
+        System.arraycopy(headerPart, 0, signingInput, 0, headerPart.length);
+        System.arraycopy(payload, 0, signingInput, headerPart.length, payload.length);
+
+        // 3) HMAC-SHA256 서명 (doFinal 후 Mac은 자동 reset 되어 재사용 가능)
+        byte[] signature = B64URL.encode(macHolder.get().doFinal(signingInput));
+
+        // 4) header.payload.signature (모두 ASCII)
+        byte[] token = new byte[signingInput.length + 1 + signature.length];
+        System.arraycopy(signingInput, 0, token, 0, signingInput.length);
+        token[signingInput.length] = '.';
+        System.arraycopy(signature, 0, token, signingInput.length + 1, signature.length);
+
+        String tokenValue = new String(token, StandardCharsets.US_ASCII);
+
+        return Jwt.withTokenValue(tokenValue)
+                .headers(h -> h.putAll(headers))
+                .claims(c -> c.putAll(claims.getClaims()))
+                .build();
+    }
+
+    private static boolean isPlainHs256(JwsHeader jwsHeader) {
+        Map<String, Object> h = jwsHeader.getHeaders();
+        return h.size() == 1 && MacAlgorithm.HS256.equals(jwsHeader.getAlgorithm());
+    }
+
+    // =========================
+    // 스트리밍 JSON 작성기
+    // =========================
+
+    private static void writeObject(StringBuilder sb, Map<?, ?> map) {
+        sb.append('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> e : map.entrySet()) {
+            if (e.getValue() == null) continue; // Nimbus와 동일하게 null 클레임은 생략
+            if (!first) sb.append(',');
+            first = false;
+            writeString(sb, String.valueOf(e.getKey()));
+            sb.append(':');
+            writeValue(sb, e.getValue());
+        }
+        sb.append('}');
+    }
+
+    private static void writeValue(StringBuilder sb, Object v) {
+        if (v == null) {
+            sb.append("null");
+        } else if (v instanceof String s) {
+            writeString(sb, s);
+        } else if (v instanceof Instant i) {
+            sb.append(i.getEpochSecond()); // NumericDate(초)
+        } else if (v instanceof Number || v instanceof Boolean) {
+            sb.append(v);
+        } else if (v instanceof Map<?, ?> m) {
+            writeObject(sb, m);
+        } else if (v instanceof Collection<?> c) {
+            sb.append('[');
+            boolean first = true;
+            for (Object o : c) {
+                if (!first) sb.append(',');
+                first = false;
+                writeValue(sb, o);
+            }
+            sb.append(']');
+        } else if (v instanceof Object[] arr) {
+            sb.append('[');
+            for (int i = 0; i < arr.length; i++) {
+                if (i > 0) sb.append(',');
+                writeValue(sb, arr[i]);
+            }
+            sb.append(']');
+        } else {
+            writeString(sb, v.toString()); // URL 등은 문자열로 기록
+        }
+    }
+
+    private static void writeString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            switch (ch) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                default -> {
+                    if (ch < 0x20) {
+                        sb.append("\\u00").append(HEX[ch >> 4]).append(HEX[ch & 0xF]);
+                    } else {
+                        sb.append(ch);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
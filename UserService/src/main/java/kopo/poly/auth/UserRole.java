@@ -7,9 +7,11 @@ import lombok.Getter;
 @Getter
 public enum UserRole {
 
-    ADMIN("ROLE_ADMIN"),
-    USER("ROLE_USER");
+    ADMIN("ROLE_ADMIN", 1),
+    USER("ROLE_USER", 2);
 
     private final String value;
-}
 
+    // compact 토큰의 권한 비트마스크(r) 값. 게이트웨이 SecurityConfig.ROLE_BITS 와 같아야 함(변경 금지, 추가만)
+    private final int bit;
+}
@@ -3,25 +3,32 @@ package kopo.poly.config;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import kopo.poly.auth.AccessTokenClaims;
+import kopo.poly.auth.HmacJwtEncoder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 
 /**
  * JWT 인코딩/디코딩 및 권한 매핑 설정 (HS256 + Base64 시크릿)
  */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class JwtConfig {
@@ -32,6 +39,14 @@ public class JwtConfig {
     @Value("${jwt.secret.key}")
     private String secretBase64;
 
+    /**
+     * JWT 인코더 구현 선택 (application.yml: jwt.token.encoder)
+     * - nimbus : NimbusJwtEncoder (기본값)
+     * - hmac   : HS256 전용 경량 인코더(HmacJwtEncoder), 로그인/리프레시마다 발생하는 객체 생성을 줄임
+     */
+    @Value("${jwt.token.encoder:nimbus}")
+    private String encoderType;
+
     /**
      * HS256용 SecretKey (Base64 디코딩 → HmacSHA256)
      */
@@ -46,6 +61,12 @@ public class JwtConfig {
      */
     @Bean
     public JwtEncoder jwtEncoder(SecretKey key) {
+        log.info("JwtEncoder type : {}", encoderType);
+
+        if ("hmac".equalsIgnoreCase(encoderType)) {
+            return new HmacJwtEncoder(key);
+        }
+
         JWKSource<SecurityContext> jwkSource = new ImmutableSecret<>(key);
         return new NimbusJwtEncoder(jwkSource);
     }
@@ -62,16 +83,21 @@ public class JwtConfig {
     }
 
     /**
-     * roles(List<String>) → ROLE_* 권한 매핑
+     * 권한 매핑: roles(List<String>) 또는 compact 토큰의 r(비트마스크) → ROLE_* 권한
+     * - DB 에는 이미 ROLE_ 접두어가 붙어 있으므로(ROLE_USER) 없는 경우에만 붙임(게이트웨이와 동일)
      */
     @Bean
     public JwtAuthenticationConverter jwtAuthenticationConverter() {
-        JwtGrantedAuthoritiesConverter delegate = new JwtGrantedAuthoritiesConverter();
-        delegate.setAuthorityPrefix("ROLE_");
-        delegate.setAuthoritiesClaimName("roles"); // 반드시 List<String> 로 넣기
-
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(delegate);
+        converter.setJwtGrantedAuthoritiesConverter(jwt -> {
+            Collection<GrantedAuthority> authorities = new ArrayList<>();
+            for (String role : AccessTokenClaims.roles(jwt)) {
+                String r = role.trim();
+                if (r.isEmpty()) continue;
+                authorities.add(new SimpleGrantedAuthority(r.startsWith("ROLE_") ? r : "ROLE_" + r));
+            }
+            return authorities;
+        });
         return converter;
     }
 }
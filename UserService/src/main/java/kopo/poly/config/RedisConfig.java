@@ -1,14 +1,57 @@
 package kopo.poly.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.*;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Redis 연결 설정 (Lettuce)
+ * <p>
+ * 연결 방식:
+ * - 공유 연결(기본): 모든 스레드가 하나의 연결을 함께 사용합니다. Lettuce는 응답을 기다리지 않고
+ * 여러 스레드의 명령을 연속으로 전송하므로, 서로 독립적인 명령은 자동으로 파이프라이닝됩니다.
+ * - 풀(spring.data.redis.lettuce.pool.enabled=true): 스레드마다 풀에서 연결을 빌려 사용합니다.
+ * 블로킹 명령/트랜잭션이 많을 때만 권장합니다.
+ * <p>
+ * 구성(app.redis.topology):
+ * - standalone(기본): 단일 노드 (spring.data.redis.host/port)
+ * - sentinel: spring.data.redis.sentinel.master/nodes 로 현재 master 를 찾고, 장애 조치 시 자동으로 따라감
+ * - master-replica: spring.data.redis.host/port 가 master, app.redis.replicas 가 replica 목록(정적 구성)
+ * <p>
+ * 읽기 분산:
+ * - 기본 연결(redisConnectionFactory, stringRedisTemplate)은 쓰기/읽기 모두 master 로 보냅니다.
+ * - 세션 조회 전용 템플릿(sessionReadRedisTemplate)만 app.redis.session-read-from(기본 replicaPreferred)을 따릅니다.
+ * 복제 지연으로 replica 에 아직 없는 키는 RefreshSessionNearCache 에서 master 로 다시 조회합니다.
+ * - standalone 에서는 세션 조회 템플릿도 기본 연결을 그대로 사용합니다.
+ * <p>
+ * 지표:
+ * - 명령별 지연시간은 lettuce.command.completion / lettuce.command.firstresponse (tag: command=GET/SET/DEL/EVAL ...)
+ * 으로 actuator(/actuator/metrics)에 노출됩니다. (Spring Boot가 만든 ClientResources 의 Micrometer 기록기 사용)
+ */
+@Slf4j
 @Configuration
 public class RedisConfig {
 
@@ -24,21 +67,205 @@ public class RedisConfig {
     @Value("${spring.data.redis.password}")
     private String redisPassword;
 
+    // 구성 방식: standalone / sentinel / master-replica
+    @Value("${app.redis.topology:standalone}")
+    private String topology;
+
+    @Value("${spring.data.redis.sentinel.master:mymaster}")
+    private String sentinelMaster;
+
+    // host:port,host:port
+    @Value("${spring.data.redis.sentinel.nodes:}")
+    private String sentinelNodes;
+
+    @Value("${spring.data.redis.sentinel.password:}")
+    private String sentinelPassword;
+
+    // master-replica 구성의 replica 목록(host:port,host:port)
+    @Value("${app.redis.replicas:}")
+    private String replicaNodes;
+
+    // 세션 조회 읽기 대상(Lettuce ReadFrom: replicaPreferred, replica, nearest, upstream ...)
+    @Value("${app.redis.session-read-from:replicaPreferred}")
+    private String sessionReadFrom;
+
+    // 명령 응답 대기 시간(초과 시 RedisCommandTimeoutException)
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration commandTimeout;
+
+    // TCP 연결 대기 시간
+    @Value("${spring.data.redis.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${spring.data.redis.lettuce.shutdown-timeout:100ms}")
+    private Duration shutdownTimeout;
+
+    // 연결 풀 사용 여부(false: 공유 연결)
+    @Value("${spring.data.redis.lettuce.pool.enabled:false}")
+    private boolean poolEnabled;
+
+    @Value("${spring.data.redis.lettuce.pool.max-active:8}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait:-1ms}")
+    private Duration poolMaxWait;
+
+    // executePipelined() 사용 시 N개 명령마다 전송(0이면 파이프라인 종료 시 한 번에 전송)
+    @Value("${app.redis.pipeline-flush-threshold:0}")
+    private int pipelineFlushThreshold;
+
+    // 명령별 지연시간 히스토그램(백분위수) 기록 여부
+    @Value("${app.redis.metrics.histogram:true}")
+    private boolean latencyHistogram;
+
+    /**
+     * Lettuce 명령 지연시간 지표 옵션 (Spring Boot 기본값을 대체)
+     * - 히스토그램 + p50/p95/p99 백분위수
+     */
+    @Bean
+    public MicrometerOptions micrometerOptions() {
+        return MicrometerOptions.builder()
+                .histogram(latencyHistogram)
+                .targetPercentiles(new double[]{0.5, 0.95, 0.99})
+                .maxLatency(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * 기본 연결(쓰기 + 일관성이 필요한 읽기). master-replica/sentinel 구성에서도 항상 master 로 보냅니다.
+     */
+    @Bean
+    @Primary
+    public LettuceConnectionFactory redisConnectionFactory(ClientResources clientResources) {
+        return createFactory(clientResources, isStandalone() ? null : ReadFrom.UPSTREAM);
+    }
+
+    /**
+     * 세션 조회 전용 연결(replica 우선). standalone 에서는 사용하지 않습니다(연결도 만들지 않음).
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory sessionReadConnectionFactory(ClientResources clientResources) {
+        return createFactory(clientResources, isStandalone() ? null : ReadFrom.valueOf(sessionReadFrom));
+    }
+
+    private boolean isStandalone() {
+        return !"sentinel".equalsIgnoreCase(topology) && !"master-replica".equalsIgnoreCase(topology);
+    }
+
+    /**
+     * 구성 방식에 맞는 Redis 접속 정보
+     */
+    private RedisConfiguration redisConfiguration() {
+        if ("sentinel".equalsIgnoreCase(topology)) {
+            RedisSentinelConfiguration sentinel = new RedisSentinelConfiguration();
+            sentinel.master(sentinelMaster);
+            for (String[] hp : parseNodes(sentinelNodes)) {
+                sentinel.sentinel(hp[0], Integer.parseInt(hp[1]));
+            }
+            sentinel.setUsername(redisUsername);
+            sentinel.setPassword(redisPassword);
+            if (sentinelPassword != null && !sentinelPassword.isBlank()) {
+                sentinel.setSentinelPassword(sentinelPassword);
+            }
+            return sentinel;
+        }
+
+        if ("master-replica".equalsIgnoreCase(topology)) {
+            RedisStaticMasterReplicaConfiguration mr = new RedisStaticMasterReplicaConfiguration(redisHost, redisPort);
+            for (String[] hp : parseNodes(replicaNodes)) {
+                mr.node(hp[0], Integer.parseInt(hp[1]));
+            }
+            mr.setUsername(redisUsername);
+            mr.setPassword(redisPassword);
+            return mr;
+        }
+
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
         redisStandaloneConfiguration.setHostName(redisHost);
         redisStandaloneConfiguration.setPort(redisPort);
         redisStandaloneConfiguration.setUsername(redisUsername); // RedisDB 사용자 이름
         redisStandaloneConfiguration.setPassword(redisPassword);
+        return redisStandaloneConfiguration;
+    }
 
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+    private static List<String[]> parseNodes(String nodes) {
+        if (nodes == null || nodes.isBlank()) return List.of();
+        return Arrays.stream(nodes.split(","))
+                .map(String::trim)
+                .filter(n -> !n.isEmpty())
+                .map(n -> n.split(":", 2))
+                .toList();
     }
 
+    private LettuceConnectionFactory createFactory(ClientResources clientResources, ReadFrom readFrom) {
+        ClientOptions clientOptions = ClientOptions.builder()
+                .autoReconnect(true) // 연결이 끊기면 자동 재연결
+                .timeoutOptions(TimeoutOptions.enabled(commandTimeout)) // 비동기 명령에도 timeout 적용
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(connectTimeout)
+                        .keepAlive(true)
+                        .build())
+                .build();
+
+        LettuceClientConfiguration clientConfig;
+        if (poolEnabled) {
+            GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+            poolConfig.setMaxTotal(poolMaxActive);
+            poolConfig.setMaxIdle(poolMaxIdle);
+            poolConfig.setMinIdle(poolMinIdle);
+            poolConfig.setMaxWait(poolMaxWait);
+
+            LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder builder =
+                    LettucePoolingClientConfiguration.builder()
+                            .poolConfig(poolConfig)
+                            .clientResources(clientResources)
+                            .clientOptions(clientOptions)
+                            .commandTimeout(commandTimeout)
+                            .shutdownTimeout(shutdownTimeout);
+            if (readFrom != null) builder.readFrom(readFrom);
+            clientConfig = builder.build();
+        } else {
+            LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+                    .clientResources(clientResources)
+                    .clientOptions(clientOptions)
+                    .commandTimeout(commandTimeout)
+                    .shutdownTimeout(shutdownTimeout);
+            if (readFrom != null) builder.readFrom(readFrom);
+            clientConfig = builder.build();
+        }
+
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(redisConfiguration(), clientConfig);
+        factory.setShareNativeConnection(!poolEnabled); // 풀 사용 시 공유 연결 대신 풀의 연결 사용
+
+        if (pipelineFlushThreshold > 0) {
+            factory.setPipeliningFlushPolicy(LettuceConnection.PipeliningFlushPolicy.buffered(pipelineFlushThreshold));
+        }
+
+        log.info("Redis connection | topology={} | readFrom={} | mode={} | commandTimeout={} | connectTimeout={}",
+                topology, readFrom == null ? "-" : readFrom == ReadFrom.UPSTREAM ? "upstream" : sessionReadFrom,
+                poolEnabled ? "pooled(max=" + poolMaxActive + ")" : "shared", commandTimeout, connectTimeout);
+
+        return factory;
+    }
+
+    /**
+     * 범용 템플릿: 키는 문자열, 값은 JSON
+     * - 이 빈이 없으면 Spring Boot가 JDK 직렬화 기반 redisTemplate 을 대신 등록합니다.
+     */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory cf) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setConnectionFactory(cf);
+        redisTemplate.setKeySerializer(StringRedisSerializer.UTF_8);
+        redisTemplate.setHashKeySerializer(StringRedisSerializer.UTF_8);
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
 
         return redisTemplate;
     }
@@ -47,8 +274,17 @@ public class RedisConfig {
      * 우리가 사용 중인 타입(JSON 문자열 저장)에 딱 맞는 템플릿
      */
     @Bean
+    @Primary
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory cf) {
         return new StringRedisTemplate(cf);
     }
-}
 
+    /**
+     * 세션 조회 전용 템플릿(replica 우선 읽기). 쓰기에는 사용하지 않습니다.
+     */
+    @Bean
+    public StringRedisTemplate sessionReadRedisTemplate(RedisConnectionFactory cf,
+                                                        @Qualifier("sessionReadConnectionFactory") LettuceConnectionFactory readCf) {
+        return new StringRedisTemplate(isStandalone() ? cf : readCf);
+    }
+}
@@ -3,7 +3,9 @@
 // 추가 라우팅 및 퍼블릭 경로를 적용할 위치도 명확히 표시합니다.
 package kopo.poly.config;
 
+import kopo.poly.auth.CalibratedBCryptPasswordEncoder; // 호스트 측정 기반 BCrypt 인코더
 import lombok.RequiredArgsConstructor; // 생성자 자동 생성(lombok)
+import org.springframework.beans.factory.annotation.Value; // 설정값 주입
 import org.springframework.context.annotation.Bean; // Bean 등록 어노테이션
 import org.springframework.context.annotation.Configuration; // 설정 클래스임을 명시
 import org.springframework.http.HttpMethod; // HTTP 메서드 상수
@@ -15,10 +17,12 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity; // 웹 보안 활성화
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer; // 시큐리티 설정 커스터마이저
 import org.springframework.security.config.http.SessionCreationPolicy; // 세션 정책
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder; // 비밀번호 암호화(BCrypt)
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder; // {id} 접두어 기반 위임 인코더
 import org.springframework.security.crypto.password.PasswordEncoder; // 비밀번호 인코더 인터페이스
 import org.springframework.security.web.SecurityFilterChain; // 시큐리티 필터 체인
 
+import java.util.Map;
+
 /**
  * Spring Security 전역 보안 설정 클래스
  * <p>
@@ -33,14 +37,42 @@ import org.springframework.security.web.SecurityFilterChain; // 시큐리티 필
 @RequiredArgsConstructor // final 필드 생성자 자동 생성
 public class SecurityConfig {
 
+    // 비밀번호 인코더 식별자({bcrypt}$2a$12$... 형식으로 해시 앞에 저장)
+    private static final String BCRYPT_ID = "bcrypt";
+
+    // BCrypt 해시 1회 목표 시간(ms). 0 이하이면 측정하지 않고 fixed-strength 사용
+    @Value("${app.password.bcrypt.target-ms:250}")
+    private long bcryptTargetMs;
+
+    // 측정 결과와 관계없이 보장할 최소 cost
+    @Value("${app.password.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+
+    // 측정 결과로 올라갈 수 있는 최대 cost
+    @Value("${app.password.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+
+    // target-ms 가 0 이하일 때 사용할 고정 cost
+    @Value("${app.password.bcrypt.fixed-strength:10}")
+    private int bcryptFixedStrength;
+
     /**
      * 비밀번호 암호화 함수(BCrypt)
      * - 회원가입/비밀번호 변경 시 비밀번호를 안전하게 암호화합니다.
      * - 로그인 시 입력값을 BCrypt로 해시하여 저장된 해시와 비교합니다.
+     * - 기동 시 호스트(파드 CPU limit)를 측정해 목표 시간에 맞는 cost를 선택합니다.
+     * - 해시는 {bcrypt} 접두어와 함께 저장되며, 접두어 없는 기존 해시도 그대로 검증됩니다.
+     * - 저장된 cost가 현재 cost와 다르면 로그인 성공 시 UserInfoService.updatePassword()로 재해시됩니다.
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        CalibratedBCryptPasswordEncoder bcrypt = (bcryptTargetMs > 0)
+                ? CalibratedBCryptPasswordEncoder.calibrate(bcryptTargetMs, bcryptMinStrength, bcryptMaxStrength)
+                : new CalibratedBCryptPasswordEncoder(bcryptFixedStrength);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt); // 접두어 없는 기존 BCrypt 해시 호환
+        return delegating;
     }
 
     /**
@@ -5,12 +5,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import kopo.poly.auth.AccessTokenClaims;
 import kopo.poly.auth.AuthInfo;
 import kopo.poly.controller.response.CommonResponse;
 import kopo.poly.dto.MsgDTO;
+import kopo.poly.dto.RtRotation;
+import kopo.poly.dto.RtSession;
 import kopo.poly.dto.UserInfoDTO;
 import kopo.poly.service.IJwtTokenService;
 import kopo.poly.service.IRefreshTokenRedisService;
+import kopo.poly.service.IStatelessRefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,10 +38,24 @@ public class LoginController {
     private final AuthenticationManager authenticationManager;
     private final IJwtTokenService jwtTokenService;
     private final IRefreshTokenRedisService refreshTokenRedisService;
+    private final IStatelessRefreshTokenService statelessRefreshTokenService;
 
     @Value("${jwt.token.refresh.name:jwtRefreshToken}")
     private String rtCookieName;
 
+    // 회전 후 기존 핸들을 후속 토큰 포인터로 유지하는 시간(초). 0이면 즉시 폐기(기존 동작)
+    @Value("${jwt.token.refresh.grace.sec:5}")
+    private long rtGraceSec;
+
+    // 다른 요청이 회전 중일 때 완료를 기다리는 최대 시간(ms)
+    @Value("${jwt.token.refresh.grace.wait-ms:300}")
+    private long rtGraceWaitMs;
+
+    // 무상태 RT 회전 시 이전 토큰을 폐기 목록에 올릴지 여부(재발급마다 Redis 쓰기 1회)
+    // - false 면 회전된 이전 토큰이 자체 만료(RT TTL, 14일)까지 계속 재발급에 쓰일 수 있으므로 기본값은 true
+    @Value("${jwt.token.refresh.stateless.revoke-on-rotate:true}")
+    private boolean rtRevokeOnRotate;
+
     /**
      * 로그인 처리
      * - 인증 성공 시 AT/RT 쿠키 발급
@@ -107,8 +125,8 @@ public class LoginController {
         } else {
             // 인증됨: JWT에서 정보 추출
             String userId = jwt.getSubject();                 // sub
-            String userName = jwt.getClaim("username");       // JwtTokenService에서 넣은 클레임
-            List<String> roles = jwt.getClaim("roles");       // List<String>
+            String userName = AccessTokenClaims.userName(jwt); // username 또는 n(compact)
+            List<String> roles = AccessTokenClaims.roles(jwt);  // roles 또는 r(compact)
             String rolesCsv = (roles == null) ? "" : String.join(",", roles);
 
             dto = UserInfoDTO.builder()
@@ -158,34 +176,122 @@ public class LoginController {
                     .body(CommonResponse.of(HttpStatus.UNAUTHORIZED, "CLIENT_ERROR", err));
         }
 
-        // 2) RT-핸들 검증(UA 바인딩)
         String ua = request.getHeader("User-Agent");
+
+        // 1-1) 무상태 RT(암호화 토큰)이면 Redis 세션 조회 없이 복호화로 검증
+        if (statelessRefreshTokenService.supports(handle)) {
+            return refreshStateless(handle, ua, response);
+        }
+
+        // 2) 직전에 회전된 핸들이면(grace 시간 내) 이미 발급된 후속 토큰을 그대로 반환
+        if (rtGraceSec > 0) {
+            RtRotation prev = refreshTokenRedisService.findRotated(handle, ua, rtGraceWaitMs);
+            if (prev != null) {
+                log.info("refresh within grace window | handle={}", handle);
+                return reissued(response, prev);
+            }
+        }
+
+        // 3) RT-핸들 검증(UA 바인딩)
         var rec = refreshTokenRedisService.validate(handle, ua); // null이면 무효/만료/UA불일치
 
         log.info("rec={} / ua={}", rec, ua);
 
         if (rec == null) {
-            MsgDTO err = MsgDTO.builder().result(320).msg("유효하지 않은 리프레시 토큰입니다.").build();
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(CommonResponse.of(HttpStatus.UNAUTHORIZED, "CLIENT_ERROR", err));
+            return invalidRefresh();
         }
 
-        // 3) 사용자 정보 구성
+        // 4) 회전 선점: 같은 핸들로 동시에 들어온 요청 중 하나만 새 세션을 발급
+        if (rtGraceSec > 0 && !refreshTokenRedisService.claimRotation(handle, rtGraceSec)) {
+            RtRotation prev = refreshTokenRedisService.findRotated(handle, ua, rtGraceWaitMs);
+            if (prev != null) {
+                return reissued(response, prev);
+            }
+            return invalidRefresh();
+        }
+
+        // 5) 사용자 정보 구성
         UserInfoDTO user = UserInfoDTO.builder()
                 .userId(rec.userId())
                 .userName(rec.userName())
                 .roles(String.join(",", rec.roles()))
                 .build();
 
-        // 4) 새 AT/RT-핸들을 쿠키로 발급
-        // UA 바인딩으로 재발급
-        jwtTokenService.issueTokens(user, ua, response);
+        // 6) 새 AT/RT-핸들 발급(UA 바인딩) 후 쿠키로 저장
+        String at;
+        String newHandle;
+        try {
+            at = jwtTokenService.generateAccessToken(user);
+            newHandle = jwtTokenService.generateRefreshToken(user, ua, response, handle); // 이전 핸들은 최대 세션 수에서 제외
+        } catch (RuntimeException e) {
+            if (rtGraceSec > 0) refreshTokenRedisService.releaseRotation(handle);
+            throw e;
+        }
+        jwtTokenService.writeTokensAsCookies(response, at, newHandle);
 
-        // 5) 기존 핸들은 폐기(세션 회전)
-        refreshTokenRedisService.revokeHandle(handle);
+        // 7) 기존 핸들 폐기(세션 회전)
+        // - grace 사용 시: 기존 핸들은 grace 시간 동안 새 토큰을 가리키는 포인터로만 남음
+        if (rtGraceSec > 0) {
+            refreshTokenRedisService.completeRotation(handle, at, newHandle, ua, rtGraceSec);
+        } else {
+            refreshTokenRedisService.revokeHandle(handle);
+        }
 
         MsgDTO ok = MsgDTO.builder().result(1).msg("토큰이 재발급되었습니다.").build();
         log.info("{}.refresh End!", getClass().getName());
         return ResponseEntity.ok(CommonResponse.of(HttpStatus.OK, "OK", ok));
     }
+
+    /**
+     * 무상태 RT 재발급
+     * - 토큰 복호화/만료/UA/폐기 목록(메모리 Bloom 필터) 확인 후 새 AT/RT를 발급합니다.
+     * - 동시 재발급 요청은 각각 유효한 새 토큰을 받으므로 grace 처리가 필요 없습니다.
+     * - 이전 토큰은 revoke-on-rotate=true(기본값)이면 즉시 폐기하고, false 이면 자체 만료 시각까지 유효합니다.
+     * (다른 인스턴스에는 폐기 목록 동기화 주기(sync-ms) 이내에 반영)
+     */
+    private ResponseEntity<CommonResponse<MsgDTO>> refreshStateless(String token, String ua,
+                                                                    HttpServletResponse response) {
+        RtSession rec = statelessRefreshTokenService.validate(token, ua);
+        if (rec == null) {
+            return invalidRefresh();
+        }
+
+        UserInfoDTO user = UserInfoDTO.builder()
+                .userId(rec.userId())
+                .userName(rec.userName())
+                .roles(String.join(",", rec.roles()))
+                .build();
+
+        String at = jwtTokenService.generateAccessToken(user);
+        String newRt = jwtTokenService.generateRefreshToken(user, ua, response);
+        jwtTokenService.writeTokensAsCookies(response, at, newRt);
+
+        if (rtRevokeOnRotate) {
+            statelessRefreshTokenService.revoke(token);
+        }
+
+        MsgDTO ok = MsgDTO.builder().result(1).msg("토큰이 재발급되었습니다.").build();
+        log.info("{}.refresh End! (stateless)", getClass().getName());
+        return ResponseEntity.ok(CommonResponse.of(HttpStatus.OK, "OK", ok));
+    }
+
+    /**
+     * grace 시간 내 재요청: 이미 발급된 후속 AT/RT-핸들을 다시 쿠키로 내려줍니다.
+     */
+    private ResponseEntity<CommonResponse<MsgDTO>> reissued(HttpServletResponse response, RtRotation prev) {
+        jwtTokenService.writeTokensAsCookies(response, prev.accessToken(), prev.refreshHandle());
+
+        MsgDTO ok = MsgDTO.builder().result(1).msg("토큰이 재발급되었습니다.").build();
+        log.info("{}.refresh End! (grace)", getClass().getName());
+        return ResponseEntity.ok(CommonResponse.of(HttpStatus.OK, "OK", ok));
+    }
+
+    /**
+     * 무효/만료/UA 불일치 리프레시 응답(401)
+     */
+    private ResponseEntity<CommonResponse<MsgDTO>> invalidRefresh() {
+        MsgDTO err = MsgDTO.builder().result(320).msg("유효하지 않은 리프레시 토큰입니다.").build();
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(CommonResponse.of(HttpStatus.UNAUTHORIZED, "CLIENT_ERROR", err));
+    }
 }
@@ -0,0 +1,61 @@
+package kopo.poly.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kopo.poly.service.IUserImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+
+@Tag(name = "회원 일괄 등록 API", description = "기존 시스템 회원 이관(관리자 전용)")
+@Slf4j
+@RequestMapping("/user/v1/admin")
+@RequiredArgsConstructor
+@RestController
+public class UserImportController {
+
+    private final IUserImportService userImportService;
+
+    @Operation(
+            summary = "회원 일괄 등록",
+            description = """
+                    요청 본문(NDJSON 또는 CSV)을 스트리밍으로 읽어 회원을 일괄 등록하고, 행 단위 결과를 NDJSON 으로 바로 내려줍니다.
+                    - Content-Type: application/x-ndjson → 한 줄에 JSON 객체 1개
+                      {"userId":"u1","userName":"홍길동","password":"pass1234!","email":"u1@example.com","addr1":"서울","addr2":"101호"}
+                    - Content-Type: text/csv → 첫 줄 헤더(userId,userName,password,email,addr1,addr2), 한 줄에 한 행
+                    - password 가 이미 BCrypt 해시({bcrypt}$2a$.. 또는 $2a$..)이면 다시 해시하지 않음
+                    - 결과: {"line":2,"userId":"u1","result":1,"msg":"OK"} ... 마지막 줄 {"summary":true,"total":..}
+                    - 예) curl -X POST -H 'Content-Type: text/csv' -H 'Authorization: Bearer ...' --data-binary @users.csv .../user/v1/admin/import
+                    """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "처리 결과(NDJSON)"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+            }
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "import", consumes = {"application/x-ndjson", "text/csv"})
+    public void importUsers(@AuthenticationPrincipal Jwt jwt, HttpServletRequest request,
+                            HttpServletResponse response) throws Exception {
+        log.info("{}.importUsers Start!", getClass().getName());
+
+        boolean csv = request.getContentType() != null && request.getContentType().startsWith("text/csv");
+
+        // 결과는 처리되는 대로 내려가므로(청크 전송) 수백만 건도 응답을 메모리에 모으지 않음
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        userImportService.importUsers(request.getInputStream(), csv, jwt.getSubject(), response.getOutputStream());
+
+        log.info("{}.importUsers End!", getClass().getName());
+    }
+}
@@ -7,22 +7,29 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import kopo.poly.auth.AccessTokenClaims;
 import kopo.poly.controller.response.CommonResponse;
 import kopo.poly.dto.MsgDTO;
+import kopo.poly.dto.SessionInfoDTO;
 import kopo.poly.dto.UserInfoDTO;
 import kopo.poly.service.IRefreshTokenRedisService;
+import kopo.poly.service.IStatelessRefreshTokenService;
 import kopo.poly.service.IUserInfoService;
+import kopo.poly.util.CmmUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +42,7 @@ public class UserInfoController {
 
     private final IUserInfoService userInfoService;
     private final IRefreshTokenRedisService refreshService;
+    private final IStatelessRefreshTokenService statelessRefreshService;
 
     @Value("${jwt.token.access.name}")
     private String accessCookieName;   // 예: jwtAccessToken
@@ -107,6 +115,8 @@ public class UserInfoController {
                     게이트웨이가 전달한 Authorization: Bearer <AT>로 인증된 사용자의 정보를 반환합니다.
                     - JWT의 sub(userId), username, roles 클레임을 사용하고,
                       필요하면 서비스 계층에서 DB 조회로 상세 정보를 구성합니다.
+                    - view=profile(기본): 이름, 이메일(복호화), 주소
+                    - view=identity: 아이디, 이름, 권한만(이메일/주소 조회와 복호화 생략, 다른 서비스용)
                     """,
             security = {@SecurityRequirement(name = "bearerAuth")},
             responses = {
@@ -115,7 +125,9 @@ public class UserInfoController {
             }
     )
     @PostMapping("userInfo")
-    public ResponseEntity<CommonResponse<UserInfoDTO>> userInfo(@AuthenticationPrincipal Jwt jwt) throws Exception {
+    public ResponseEntity<CommonResponse<UserInfoDTO>> userInfo(@AuthenticationPrincipal Jwt jwt,
+                                                                @RequestParam(value = "view", defaultValue = "profile") String view)
+            throws Exception {
         log.info("{}.userInfo Start!", getClass().getName());
 
         if (jwt == null) {
@@ -125,11 +137,15 @@ public class UserInfoController {
         }
 
         String userId = jwt.getSubject();                 // sub
-        String userName = jwt.getClaim("username");       // 선택
-        List<String> roles = jwt.getClaim("roles");       // 선택
+        String userName = AccessTokenClaims.userName(jwt); // username 또는 n(compact)
+        List<String> roles = AccessTokenClaims.roles(jwt);  // roles 또는 r(compact)
 
         UserInfoDTO param = UserInfoDTO.builder().userId(userId).build();
-        UserInfoDTO body = Optional.ofNullable(userInfoService.getUserInfo(param))
+        UserInfoDTO found = "identity".equalsIgnoreCase(view)
+                ? userInfoService.getUserIdentity(param) // 필요한 컬럼만 조회
+                : userInfoService.getUserInfo(param);
+
+        UserInfoDTO body = Optional.ofNullable(found)
                 .orElseGet(() -> UserInfoDTO.builder()
                         .userId(userId)
                         .userName(userName == null ? "" : userName)
@@ -140,6 +156,117 @@ public class UserInfoController {
         return ResponseEntity.ok(CommonResponse.of(HttpStatus.OK, "OK", body));
     }
 
+    // =========================================================
+    // 1-0) 여러 사용자 식별 정보 조회(다른 서비스용)
+    // =========================================================
+    @Operation(
+            summary = "사용자 일괄 조회",
+            description = """
+                    여러 아이디의 식별 정보(아이디, 이름)를 한 번에 반환합니다.
+                    - GET ?userIds=a,b,c 또는 POST ["a","b","c"]
+                    - 중복 아이디는 한 번만 조회하고, 없는 아이디는 결과에서 제외합니다(요청 순서 유지).
+                    - 응답에 ETag 를 붙이며, If-None-Match 가 같으면 304(본문 없음)를 반환합니다.
+                    - 최대 아이디 수(app.user.batch.max-ids)를 넘으면 400
+                    """,
+            security = {@SecurityRequirement(name = "bearerAuth")},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음"),
+                    @ApiResponse(responseCode = "400", description = "아이디 수 초과")
+            }
+    )
+    @GetMapping("users/batch")
+    public ResponseEntity<CommonResponse<List<UserInfoDTO>>> usersBatch(
+            @RequestParam(value = "userIds", required = false) List<String> userIds,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return getUsers(userIds, ifNoneMatch);
+    }
+
+    @PostMapping("users/batch")
+    public ResponseEntity<CommonResponse<List<UserInfoDTO>>> usersBatchPost(
+            @RequestBody(required = false) List<String> userIds,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return getUsers(userIds, ifNoneMatch);
+    }
+
+    private ResponseEntity<CommonResponse<List<UserInfoDTO>>> getUsers(List<String> userIds, String ifNoneMatch) {
+        log.info("{}.getUsers Start! requested: {}", getClass().getName(), userIds == null ? 0 : userIds.size());
+
+        List<UserInfoDTO> rList;
+        try {
+            rList = userInfoService.getUserIdentities(userIds);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(CommonResponse.of(HttpStatus.BAD_REQUEST, e.getMessage(), List.of()));
+        }
+
+        // ETag: 응답 시각(timestamp) 등을 제외한 결과 데이터만으로 계산
+        StringBuilder sb = new StringBuilder(rList.size() * 32);
+        for (UserInfoDTO u : rList) {
+            sb.append(u.userId()).append('\t').append(CmmUtil.nvl(u.userName())).append('\n');
+        }
+        String etag = "\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        // 캐시는 하되 매번 ETag 로 재검증
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        if (etagMatches(ifNoneMatch, etag)) {
+            log.info("{}.getUsers End! not modified", getClass().getName());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        log.info("{}.getUsers End! found: {}", getClass().getName(), rList.size());
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl)
+                .body(CommonResponse.of(HttpStatus.OK, "OK", rList));
+    }
+
+    // If-None-Match: "a", W/"b" 또는 * 형태 비교(약한 비교)
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+
+        for (String tag : ifNoneMatch.split(",")) {
+            String t = tag.trim();
+            if (t.startsWith("W/")) t = t.substring(2);
+            if (t.equals("*") || t.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    // =========================================================
+    // 1-1) 로그인 세션(기기) 목록 조회
+    // =========================================================
+    @Operation(
+            summary = "로그인 세션 목록",
+            description = """
+                    현재 사용자의 살아있는 리프레시 세션(로그인 기기) 목록을 최신순으로 반환합니다.
+                    - 핸들 값은 노출하지 않으며, sessionId(핸들 해시 앞부분)로 구분합니다.
+                    - current=true 는 이 요청을 보낸 기기의 세션입니다.
+                    - 무상태(stateless) 모드로 발급된 리프레시 토큰은 서버에 저장되지 않으므로 목록에 나타나지 않습니다.
+                    """,
+            security = {@SecurityRequirement(name = "bearerAuth")},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않음")
+            }
+    )
+    @GetMapping("sessions")
+    public ResponseEntity<CommonResponse<List<SessionInfoDTO>>> sessions(@AuthenticationPrincipal Jwt jwt,
+                                                                         HttpServletRequest req) {
+        log.info("{}.sessions Start!", getClass().getName());
+
+        if (jwt == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(CommonResponse.of(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", List.of()));
+        }
+
+        String userId = jwt.getSubject();
+        List<SessionInfoDTO> rList = refreshService.listSessions(userId, readCookie(req, refreshCookieName));
+
+        log.info("{}.sessions End! size={}", getClass().getName(), rList.size());
+        return ResponseEntity.ok(CommonResponse.of(HttpStatus.OK, "OK", rList));
+    }
+
     // =========================================================
     // 2) 현재 기기 로그아웃 (인증 불필요)
     // =========================================================
@@ -160,7 +287,11 @@ public class UserInfoController {
         String handle = readCookie(req, refreshCookieName);
         if (handle != null && !handle.isBlank()) {
             try {
-                refreshService.revokeHandle(handle); // 현재 기기의 RT 세션만 폐기
+                if (statelessRefreshService.supports(handle)) {
+                    statelessRefreshService.revoke(handle); // 무상태 RT는 폐기 목록에 등록
+                } else {
+                    refreshService.revokeHandle(handle); // 현재 기기의 RT 세션만 폐기
+                }
             } catch (Exception e) {
                 log.warn("refresh handle revoke failed", e);
             }
@@ -207,6 +338,7 @@ public class UserInfoController {
         String userId = jwt.getSubject();
         try {
             refreshService.revokeAllByUser(userId);
+            statelessRefreshService.revokeAllByUser(userId); // 무상태 RT(발급 방식 전환 전후 토큰 포함)
         } catch (Exception e) {
             log.warn("revoke all fail", e);
         }
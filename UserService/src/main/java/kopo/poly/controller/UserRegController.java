@@ -3,18 +3,15 @@ package kopo.poly.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import kopo.poly.auth.UserRole;
 import kopo.poly.controller.response.CommonResponse;
 import kopo.poly.dto.MsgDTO;
 import kopo.poly.dto.UserInfoDTO;
-import kopo.poly.service.IUserInfoService;
+import kopo.poly.service.IUserRegService;
 import kopo.poly.util.CmmUtil;
-import kopo.poly.util.EncryptUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "회원가입 API", description = "회원가입 요청을 처리합니다.")
@@ -24,8 +21,7 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 public class UserRegController {
 
-    private final IUserInfoService userInfoService;
-    private final PasswordEncoder passwordEncoder;
+    private final IUserRegService userRegService;
 
     @Operation(
             summary = "회원가입",
@@ -34,6 +30,7 @@ public class UserRegController {
                     - 비밀번호는 PasswordEncoder(BCrypt)로 해시 저장
                     - 이메일은 EncryptUtil(AES/CBC)로 암호화 저장(기존 호환)
                     - 기본 권한: USER
+                    - 해시/암호화는 전용 스레드 풀에서 실행(요청이 몰려 대기열이 가득 차면 result=3)
                     요청 예시:
                     {
                       "userId": "test01",
@@ -55,37 +52,20 @@ public class UserRegController {
         String msg;
 
         try {
-            // ---- 1) 입력 정규화 & 필수값 검증 ----
-            final String userId = CmmUtil.nvl(pDTO.userId()).trim();
-            final String userName = CmmUtil.nvl(pDTO.userName()).trim();
-            final String rawPw = CmmUtil.nvl(pDTO.password());
-            final String emailRaw = CmmUtil.nvl(pDTO.email()).trim();
-            final String addr1 = CmmUtil.nvl(pDTO.addr1()).trim();
-            final String addr2 = CmmUtil.nvl(pDTO.addr2()).trim();
-
-            // ---- 2) 민감정보는 로그에 남기지 않음 ----
-            log.info("userId: {}", userId);
-            log.info("userName: {}", userName);
-            log.info("addr1/addr2: {}/{}", addr1, addr2);
-
-            // ---- 3) 저장 DTO 구성 (비번 해시, 이메일 암호화, 기본 권한) ----
-            UserInfoDTO toSave = UserInfoDTO.builder()
-                    .userId(userId)
-                    .userName(userName)
-                    .password(passwordEncoder.encode(rawPw)) // BCrypt 해시
-                    .email(EncryptUtil.encAES128CBC(emailRaw)) // AES/CBC 암호화(기존 호환)
-                    .addr1(addr1)
-                    .addr2(addr2)
-                    .roles(UserRole.USER.getValue()) // 기본 권한
-                    .build();
-
-            // ---- 4) 회원가입 실행 ----
-            result = userInfoService.insertUserInfo(toSave);
+            // ---- 1) 민감정보(비밀번호, 이메일)는 로그에 남기지 않음 ----
+            log.info("userId: {}", CmmUtil.nvl(pDTO.userId()).trim());
+            log.info("userName: {}", CmmUtil.nvl(pDTO.userName()).trim());
+            log.info("addr1/addr2: {}/{}", CmmUtil.nvl(pDTO.addr1()).trim(), CmmUtil.nvl(pDTO.addr2()).trim());
+
+            // ---- 2) 회원가입 실행 (비번 해시/이메일 암호화는 전용 스레드 풀, INSERT 1회) ----
+            result = userRegService.insertUserInfo(pDTO);
 
             if (result == 1) {
                 msg = "회원가입되었습니다.";
             } else if (result == 2) {
                 msg = "이미 가입된 아이디입니다.";
+            } else if (result == 3) {
+                msg = "가입 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.";
             } else {
                 msg = "오류로 인해 회원가입이 실패하였습니다.";
             }
@@ -102,4 +82,33 @@ public class UserRegController {
                 CommonResponse.of(HttpStatus.OK, "OK", MsgDTO.builder().result(result).msg(msg).build())
         );
     }
+
+    @Operation(
+            summary = "아이디 중복 확인",
+            description = """
+                    가입 전 아이디 사용 가능 여부를 확인합니다.
+                    - 가입된 아이디 Bloom 필터에 없으면 DB 조회 없이 바로 응답
+                    - 필터에 있을 수도 있으면 DB 에서 확인
+                    - result: 1=사용 가능, 2=이미 사용 중, 0=아이디 없음
+                    """,
+            responses = {@ApiResponse(responseCode = "200", description = "OK")}
+    )
+    @GetMapping("checkId")
+    public ResponseEntity<CommonResponse<MsgDTO>> checkId(@RequestParam(value = "userId", required = false) String userId) {
+
+        int result = userRegService.checkUserId(userId);
+
+        String msg;
+        if (result == 1) {
+            msg = "사용 가능한 아이디입니다.";
+        } else if (result == 2) {
+            msg = "이미 사용 중인 아이디입니다.";
+        } else {
+            msg = "아이디를 입력하세요.";
+        }
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, "OK", MsgDTO.builder().result(result).msg(msg).build())
+        );
+    }
 }
@@ -0,0 +1,22 @@
+package kopo.poly.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 무상태(stateless) 리프레시 토큰에 암호화되어 들어가는 클레임.
+ * Redis 세션(RtSession) 대신 토큰 자체가 AT 재발급에 필요한 정보를 가진다.
+ * 쿠키 크기를 줄이기 위해 필드명을 짧게 유지한다.
+ */
+@Builder
+public record RtClaims(
+        String jti,         // 토큰 고유 ID(폐기 목록 키)
+        String sub,         // userId
+        String name,        // userName
+        List<String> roles, // ["USER", "ADMIN"]
+        String ua,          // User-Agent 해시
+        long iat,           // 발급 시각(epoch ms)
+        long exp            // 만료 시각(epoch ms)
+) {
+}
@@ -0,0 +1,17 @@
+package kopo.poly.dto;
+
+import lombok.Builder;
+
+/**
+ * 세션 회전(rotation) 직후 Redis에 잠시 남겨두는 "후속 토큰" 레코드.
+ * 회전 전 핸들(rtgrace:{oldHandle})로 동시에 들어온 리프레시 요청에
+ * 새로 발급한 AT/RT 핸들을 그대로 돌려주기 위해 사용한다.
+ */
+@Builder
+public record RtRotation(
+        String accessToken,   // 회전 시 새로 발급한 AT(JWT)
+        String refreshHandle, // 회전 시 새로 발급한 RT 핸들
+        String uaHash,        // 회전을 요청한 User-Agent 해시
+        String rotatedAt
+) {
+}
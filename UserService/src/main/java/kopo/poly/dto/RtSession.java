@@ -8,6 +8,8 @@ import java.util.List;
  * Redis에 저장되는 리프레시 세션(핸들) 레코드.
  * AT 재발급에 필요한 클레임(userId, userName, roles)과
  * 보안 메타데이터(uaHash, issuedAt)를 포함한다.
+ * userAgent 는 세션 목록 화면 표시용(앞부분만 저장)이다.
+ * prevHandle 은 회전으로 이 세션을 만든 이전 핸들이다(로그아웃 시 이전 핸들의 grace 항목도 삭제, 최초 로그인이면 null).
  */
 @Builder
 public record RtSession(
@@ -15,7 +17,9 @@ public record RtSession(
         String userName,
         List<String> roles, // ["USER", "ADMIN"]
         String uaHash,
-        String issuedAt
+        String issuedAt,
+        String userAgent,
+        String prevHandle
 ) {
 }
 
@@ -0,0 +1,18 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+/**
+ * 로그인 세션(리프레시 핸들) 목록 조회 응답 DTO
+ * - 핸들 값 자체는 자격증명이므로 노출하지 않고, 해시 앞부분을 세션 식별자로 사용합니다.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+public record SessionInfoDTO(
+        String sessionId, // 세션 식별자(핸들 해시 앞 16자리)
+        String issuedAt,  // 발급 일시(ISO-8601)
+        String userAgent, // 발급 당시 User-Agent
+        boolean current   // 현재 요청 기기의 세션 여부
+) {
+}
@@ -0,0 +1,25 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+/**
+ * 회원 일괄 등록 결과(행 단위, NDJSON 한 줄)
+ * - 마지막 줄은 summary=true 와 함께 전체 건수를 담습니다.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+public record UserImportResultDTO(
+        long line,        // 입력 파일의 줄 번호(1부터, CSV 헤더 포함)
+        String userId,
+        @JsonInclude(JsonInclude.Include.ALWAYS)
+        int result,       // 1: 등록, 2: 아이디 중복, 0: 실패(0 도 항상 출력)
+        String msg,
+        boolean summary,  // 요약 줄 여부
+        long total,
+        long inserted,
+        long duplicated,
+        long failed,
+        long elapsedMs
+) {
+}
@@ -4,7 +4,11 @@ package kopo.poly.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude; // JSON 변환 시 사용되는 어노테이션 import
 import kopo.poly.repository.entity.UserInfoEntity; // DB 엔티티 객체 import
+import kopo.poly.repository.projection.UserAuthView; // 인증용 조회 결과 import
+import kopo.poly.repository.projection.UserIdentityView; // 식별용 조회 결과 import
+import kopo.poly.repository.projection.UserProfileView; // 회원정보 화면용 조회 결과 import
 import kopo.poly.util.CmmUtil; // 공통 유틸리티 클래스 import
+import kopo.poly.util.DateUtil; // 일시 형식 변환 유틸리티 클래스 import
 import kopo.poly.util.EncryptUtil; // 암호화/복호화 유틸리티 클래스 import
 import lombok.Builder; // 빌더 패턴 적용을 위한 lombok 라이브러리 import
 
@@ -18,9 +22,9 @@ public record UserInfoDTO(
         String addr1,    // 주소(기본 주소)
         String addr2,    // 주소(상세 주소)
         String regId,    // 등록자 아이디(관리자 또는 본인)
-        String regDt,    // 등록 일시(YYYYMMDDHHMMSS)
+        String regDt,    // 등록 일시(yyyy-MM-dd HH:mm:ss)
         String chgId,    // 수정자 아이디
-        String chgDt,    // 수정 일시(YYYYMMDDHHMMSS)
+        String chgDt,    // 수정 일시(yyyy-MM-dd HH:mm:ss)
         String roles     // 사용자 권한 정보(예: ROLE_USER, ROLE_ADMIN)
 ) {
     // from() 메서드는 DB 엔티티(UserInfoEntity) 객체를 DTO로 변환합니다.
@@ -38,14 +42,46 @@ public record UserInfoDTO(
                 .addr1(entity.getAddr1()) // 기본 주소
                 .addr2(entity.getAddr2()) // 상세 주소
                 .regId(entity.getRegId()) // 등록자 아이디
-                .regDt(entity.getRegDt()) // 등록 일시
+                .regDt(DateUtil.format(entity.getRegDt())) // 등록 일시(기존 문자열 형식 유지)
                 .chgId(entity.getChgId()) // 수정자 아이디
-                .chgDt(entity.getChgDt()) // 수정 일시
+                .chgDt(DateUtil.format(entity.getChgDt())) // 수정 일시
                 // roles 필드는 필요에 따라 추가할 수 있습니다. (권한 정보)
                 .build();
         // 변환된 DTO 객체 반환
         return dto;
     }
+
+    // 로그인 인증용 조회 결과 → DTO (이메일 복호화 없음)
+    public static UserInfoDTO from(UserAuthView view) {
+        return UserInfoDTO.builder()
+                .userId(view.userId())
+                .userName(view.userName())
+                .password(view.password()) // 비밀번호(해시)
+                .roles(view.roles()) // 권한
+                .build();
+    }
+
+    // 식별용 조회 결과 → DTO (아이디, 이름, 권한)
+    public static UserInfoDTO from(UserIdentityView view) {
+        return UserInfoDTO.builder()
+                .userId(view.userId())
+                .userName(view.userName())
+                .roles(view.roles())
+                .build();
+    }
+
+    // 회원정보 화면용 조회 결과 → DTO
+    // 이메일 복호화는 회원정보 화면에서만 필요하므로 이 변환에서만 수행합니다.
+    public static UserInfoDTO from(UserProfileView view) throws Exception {
+        return UserInfoDTO.builder()
+                .userId(view.userId())
+                .userName(view.userName())
+                .email(EncryptUtil.decAES128CBC(CmmUtil.nvl(view.email()))) // 이메일 복호화
+                .addr1(view.addr1())
+                .addr2(view.addr2())
+                .build();
+    }
+
     // 추가 라우팅 및 퍼블릭 경로 설정이 필요한 경우, 이 DTO를 활용하여 사용자 정보를 전달할 수 있습니다.
     // 예시: UserController에서 사용자 정보 조회/수정/삭제 시 이 DTO를 반환하거나 파라미터로 사용합니다.
 }
@@ -1,13 +1,22 @@
 package kopo.poly.repository;
 
 import kopo.poly.repository.entity.UserInfoEntity;
+import kopo.poly.repository.projection.UserAuthView;
+import kopo.poly.repository.projection.UserIdentityView;
+import kopo.poly.repository.projection.UserProfileView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserInfoRepository extends JpaRepository<UserInfoEntity, Long> {
+public interface UserInfoRepository extends JpaRepository<UserInfoEntity, Long>, UserInfoRepositoryCustom {
 
     // 회원 존재 여부 체크
     // java.util.Optional 객체는 자바의 NullPointer 에러에 대응하기 위해 1.8버전부터 추가된 자바 객체
@@ -15,5 +24,41 @@ public interface UserInfoRepository extends JpaRepository<UserInfoEntity, Long>
     // 쿼리 예 : SELECT * FROM USER_INFO WHERE USER_ID = 'hglee67'
     Optional<UserInfoEntity> findByUserId(String userId);
 
+    // 로그인 인증용: 아이디, 이름, 비밀번호 해시, 권한만 조회
+    // 쿼리 예 : SELECT USER_ID, USER_NAME, PASSWORD, ROLES FROM USER_INFO WHERE USER_ID = 'hglee67'
+    @Query("SELECT new kopo.poly.repository.projection.UserAuthView(A.userId, A.userName, A.password, A.roles)"
+            + " FROM UserInfoEntity A WHERE A.userId = :userId")
+    Optional<UserAuthView> findAuthByUserId(@Param("userId") String userId);
+
+    // 사용자 식별용: 아이디, 이름, 권한만 조회
+    // 쿼리 예 : SELECT USER_ID, USER_NAME, ROLES FROM USER_INFO WHERE USER_ID = 'hglee67'
+    @Query("SELECT new kopo.poly.repository.projection.UserIdentityView(A.userId, A.userName, A.roles)"
+            + " FROM UserInfoEntity A WHERE A.userId = :userId")
+    Optional<UserIdentityView> findIdentityByUserId(@Param("userId") String userId);
+
+    // 여러 사용자 식별 정보 한 번에 조회(IN 목록 크기는 서비스에서 나눠서 호출)
+    // 쿼리 예 : SELECT USER_ID, USER_NAME, ROLES FROM USER_INFO WHERE USER_ID IN ('hglee67', 'test01')
+    @Query("SELECT new kopo.poly.repository.projection.UserIdentityView(A.userId, A.userName, A.roles)"
+            + " FROM UserInfoEntity A WHERE A.userId IN :userIds")
+    List<UserIdentityView> findIdentityByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    // 회원정보 화면용: 아이디, 이름, 이메일(암호문), 주소만 조회
+    // 쿼리 예 : SELECT USER_ID, USER_NAME, EMAIL, ADDR1, ADDR2 FROM USER_INFO WHERE USER_ID = 'hglee67'
+    @Query("SELECT new kopo.poly.repository.projection.UserProfileView(A.userId, A.userName, A.email, A.addr1, A.addr2)"
+            + " FROM UserInfoEntity A WHERE A.userId = :userId")
+    Optional<UserProfileView> findProfileByUserId(@Param("userId") String userId);
+
+    // 아이디 존재 여부만 확인(엔티티를 읽지 않음)
+    // 쿼리 예 : SELECT 1 FROM USER_INFO WHERE USER_ID = 'hglee67' LIMIT 1
+    boolean existsByUserId(String userId);
+
+    // 비밀번호 해시만 교체(로그인 성공 시 BCrypt cost 재조정용)
+    // 쿼리 예 : UPDATE USER_INFO SET PASSWORD = '{bcrypt}$2a$12$...' WHERE USER_ID = 'hglee67'
+    // 실패해도 로그인 자체는 유지해야 하므로 트랜잭션을 이 쿼리 단위로 한정
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserInfoEntity A SET A.password = :password WHERE A.userId = :userId")
+    int updatePassword(@Param("userId") String userId, @Param("password") String password);
+
 }
 
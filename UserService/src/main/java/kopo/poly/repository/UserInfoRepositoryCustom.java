@@ -0,0 +1,20 @@
+package kopo.poly.repository;
+
+import kopo.poly.repository.entity.UserInfoEntity;
+
+import java.util.List;
+
+/**
+ * UserInfoRepository 확장(직접 구현) - 회원가입 INSERT 전용
+ * <p>
+ * JpaRepository.save()는 아이디(@Id)가 이미 채워진 엔티티를 merge 하므로 SELECT 후 INSERT(또는 UPDATE)가 실행됩니다.
+ * 여기서는 persist 로 INSERT 만 실행하고, 아이디 중복은 DB의 기본키(USER_ID) 제약 위반으로 판단합니다.
+ */
+public interface UserInfoRepositoryCustom {
+
+    // INSERT 1회. 아이디 중복이면 DataIntegrityViolationException
+    void insertUserInfo(UserInfoEntity pEntity);
+
+    // 여러 건을 한 트랜잭션으로 INSERT(hibernate.jdbc.batch_size 단위로 JDBC batch 전송). 한 건이라도 실패하면 전체 롤백
+    void insertUserInfoAll(List<UserInfoEntity> pList);
+}
@@ -0,0 +1,34 @@
+package kopo.poly.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kopo.poly.repository.entity.UserInfoEntity;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * UserInfoRepositoryCustom 구현(Spring Data 가 이름 규칙(~Impl)으로 찾아 UserInfoRepository 에 합쳐줌)
+ */
+public class UserInfoRepositoryCustomImpl implements UserInfoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Transactional
+    @Override
+    public void insertUserInfo(UserInfoEntity pEntity) {
+        em.persist(pEntity);
+        em.flush(); // 제약 위반을 이 메서드 안에서 발생시키기 위해 즉시 INSERT
+    }
+
+    @Transactional
+    @Override
+    public void insertUserInfoAll(List<UserInfoEntity> pList) {
+        for (UserInfoEntity pEntity : pList) {
+            em.persist(pEntity);
+        }
+        em.flush();
+        em.clear();
+    }
+}
@@ -9,6 +9,8 @@ import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.cache.annotation.Cacheable;
 
+import java.time.LocalDateTime;
+
 
 @Getter
 @NoArgsConstructor
@@ -47,14 +49,14 @@ public class UserInfoEntity {
     @Column(name = "reg_id", updatable = false)
     private String regId;
 
-    @Column(name = "reg_dt", updatable = false)
-    private String regDt;
+    @Column(name = "reg_dtm", updatable = false)
+    private LocalDateTime regDt; // DATETIME(기존 문자열 컬럼 reg_dt 는 트리거로 함께 채움)
 
     @Column(name = "chg_id")
     private String chgId;
 
-    @Column(name = "chg_dt")
-    private String chgDt;
+    @Column(name = "chg_dtm")
+    private LocalDateTime chgDt; // DATETIME(기존 문자열 컬럼 chg_dt 는 트리거로 함께 채움)
 
     @Column(name = "roles") //권한 데이터는 ,를 구분자로 여러 개(예 : 관리자, 일반사용자) 정의 가능함
     private String roles;
@@ -0,0 +1,120 @@
+package kopo.poly.repository.migration;
+
+import kopo.poly.util.DateUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+
+/**
+ * Flyway V3 : USER_INFO 의 등록/수정 일시 문자열(reg_dt, chg_dt)을 DATETIME 컬럼(reg_dtm, chg_dtm)에 채우는 백필
+ * <p>
+ * - V2 에서 컬럼/트리거를 추가한 뒤 실행합니다(Spring Boot 가 JavaMigration 빈을 Flyway 에 등록).
+ * - 아이디(USER_ID) 순서로 chunk-size 건씩 읽어 Java 에서 변환(DateUtil.parse)하고, 구간마다 batch UPDATE 후 바로 커밋합니다.
+ * 한 번에 전체를 UPDATE 하지 않으므로 행 잠금은 한 구간 동안만 잡히고, 이전 버전 인스턴스의 로그인/회원가입은 계속됩니다.
+ * - 형식이 다른 문자열은 SQL STR_TO_DATE 처럼 오류(strict 모드)로 멈추지 않고 NULL 로 두며, 건수만 로그로 남깁니다.
+ * - 이미 채워진 행(새 버전이 가입시켰거나 트리거가 채운 행)은 건너뜁니다.
+ * - 중간에 실패하면 커밋한 구간은 남지만, Flyway 가 flyway_history_user 에 V3 를 실패(success=0)로 기록하므로
+ * 그대로 다시 기동하면 검증 단계에서 멈춥니다(Detected failed migration to version 3).
+ * 원인을 고친 뒤 flyway repair(또는 DELETE FROM flyway_history_user WHERE version = '3' AND success = 0)로 실패 기록을 지우고 기동하면
+ * 채워진 행은 건너뛰고 남은 행부터 이어서 채웁니다.
+ */
+@Slf4j
+@Component
+public class UserInfoDateTimeBackfill implements JavaMigration {
+
+    private static final String SELECT_SQL = "SELECT USER_ID, REG_DT, CHG_DT FROM USER_INFO"
+            + " WHERE USER_ID > ? AND (REG_DTM IS NULL OR CHG_DTM IS NULL) ORDER BY USER_ID LIMIT ?";
+
+    private static final String UPDATE_SQL = "UPDATE USER_INFO SET REG_DTM = COALESCE(REG_DTM, ?), CHG_DTM = COALESCE(CHG_DTM, ?)"
+            + " WHERE USER_ID = ?";
+
+    // 한 번에 읽고 커밋할 행 수
+    @Value("${app.user.migration.backfill-chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("3");
+    }
+
+    @Override
+    public String getDescription() {
+        return "backfill user info datetime";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false; // 구간마다 직접 커밋
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection con = context.getConnection();
+        boolean autoCommit = con.getAutoCommit();
+        con.setAutoCommit(false);
+
+        long start = System.nanoTime();
+        String lastId = "";
+        long rows = 0;
+        long chunks = 0;
+        long invalid = 0;
+
+        try (PreparedStatement select = con.prepareStatement(SELECT_SQL);
+             PreparedStatement update = con.prepareStatement(UPDATE_SQL)) {
+
+            while (true) {
+                select.setString(1, lastId);
+                select.setInt(2, chunkSize);
+
+                int n = 0;
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        lastId = rs.getString(1);
+                        LocalDateTime regDt = DateUtil.parse(rs.getString(2));
+                        LocalDateTime chgDt = DateUtil.parse(rs.getString(3));
+                        if (regDt == null || chgDt == null) invalid++;
+
+                        update.setObject(1, regDt);
+                        update.setObject(2, chgDt);
+                        update.setString(3, lastId);
+                        update.addBatch();
+                        n++;
+                    }
+                }
+
+                if (n == 0) break;
+
+                update.executeBatch();
+                con.commit();
+                rows += n;
+
+                if (++chunks % 50 == 0) {
+                    log.info("UserInfoDateTimeBackfill | rows={} lastId={}", rows, lastId);
+                }
+            }
+
+        } catch (Exception e) {
+            con.rollback();
+            throw e;
+
+        } finally {
+            con.setAutoCommit(autoCommit);
+        }
+
+        log.info("UserInfoDateTimeBackfill | done | rows={} invalid={} elapsedMs={}",
+                rows, invalid, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,13 @@
+package kopo.poly.repository.projection;
+
+/**
+ * 로그인 인증용 조회 결과(USER_INFO 에서 인증에 필요한 컬럼만 조회)
+ * - 이메일/주소/등록 이력은 읽지 않습니다.
+ *
+ * @param userId   사용자 아이디
+ * @param userName 사용자 이름(토큰 username 클레임)
+ * @param password 비밀번호 해시
+ * @param roles    권한(쉼표 구분)
+ */
+public record UserAuthView(String userId, String userName, String password, String roles) {
+}
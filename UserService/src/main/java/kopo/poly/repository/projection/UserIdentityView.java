@@ -0,0 +1,12 @@
+package kopo.poly.repository.projection;
+
+/**
+ * 사용자 식별용 조회 결과(아이디, 이름, 권한만 조회)
+ * - NoticeService 등 다른 서비스가 작성자 확인에만 사용하는 경우
+ *
+ * @param userId   사용자 아이디
+ * @param userName 사용자 이름
+ * @param roles    권한(쉼표 구분)
+ */
+public record UserIdentityView(String userId, String userName, String roles) {
+}
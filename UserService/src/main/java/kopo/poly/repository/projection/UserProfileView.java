@@ -0,0 +1,14 @@
+package kopo.poly.repository.projection;
+
+/**
+ * 회원정보 화면용 조회 결과
+ * - email 은 DB 에 저장된 암호문 그대로이며, 화면에 보여줄 때(UserInfoDTO.from)만 복호화합니다.
+ *
+ * @param userId   사용자 아이디
+ * @param userName 사용자 이름
+ * @param email    이메일(AES 암호문)
+ * @param addr1    기본 주소
+ * @param addr2    상세 주소
+ */
+public record UserProfileView(String userId, String userName, String email, String addr1, String addr2) {
+}
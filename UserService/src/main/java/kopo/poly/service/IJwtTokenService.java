@@ -35,7 +35,15 @@ public interface IJwtTokenService {
      * - 실제로는 Redis에 저장되는 **세션 핸들(opaque handle)** 을 새로 만들고 그 문자열을 반환한다.
      * - 로그인 시 최초 발급에 사용. (재발급 시에는 보통 회전 서비스에서 새 핸들을 만들고 반환)
      */
-    String generateRefreshToken(UserInfoDTO user, String userAgent, HttpServletResponse res);
+    default String generateRefreshToken(UserInfoDTO user, String userAgent, HttpServletResponse res) {
+        return generateRefreshToken(user, userAgent, res, null);
+    }
+
+    /**
+     * Refresh "Token" 재발급(회전)용 생성.
+     * - replacingHandle: 회전되는 이전 핸들(최대 세션 수 계산에서 제외, 무상태 모드에서는 사용하지 않음)
+     */
+    String generateRefreshToken(UserInfoDTO user, String userAgent, HttpServletResponse res, String replacingHandle);
 
     /**
      * 두 값을 HttpOnly 쿠키로 저장.
@@ -1,8 +1,12 @@
 package kopo.poly.service;
 
+import kopo.poly.dto.RtRotation;
 import kopo.poly.dto.RtSession;
+import kopo.poly.dto.SessionInfoDTO;
 import kopo.poly.dto.UserInfoDTO;
 
+import java.util.List;
+
 /**
  * Refresh 토큰을 Redis 세션 핸들로 관리하기 위한 최소 인터페이스
  * 실제로 사용하는 메서드만 남기고, 불필요한 함수는 모두 제거함
@@ -12,7 +16,14 @@ public interface IRefreshTokenRedisService {
     /**
      * UA 포함 발급(도난 방지 보조 수단)
      */
-    String issueHandle(UserInfoDTO user, long ttlSec, String userAgent);
+    default String issueHandle(UserInfoDTO user, long ttlSec, String userAgent) {
+        return issueHandle(user, ttlSec, userAgent, null);
+    }
+
+    /**
+     * 재발급(회전) 시 발급. 회전되는 이전 핸들(replacingHandle)은 최대 세션 수 계산에서 제외
+     */
+    String issueHandle(UserInfoDTO user, long ttlSec, String userAgent, String replacingHandle);
 
     /**
      * 핸들 + UA 매칭 검증(불일치 시 세션 제거 후 null 반환)
@@ -28,4 +39,30 @@ public interface IRefreshTokenRedisService {
      * 사용자 전체 세션 폐기(모든 기기 로그아웃)
      */
     void revokeAllByUser(String userId);
+
+    /**
+     * 사용자의 살아있는 세션 목록(최신순). 사용자별 인덱스만 조회하므로 O(해당 사용자 세션 수)
+     */
+    List<SessionInfoDTO> listSessions(String userId, String currentHandle);
+
+    /**
+     * 회전 선점(master 에서 세션 존재 확인 + SET NX). 같은 핸들로 동시에 들어온 리프레시 중 하나만 true 를 받는다.
+     */
+    boolean claimRotation(String handle, long graceSec);
+
+    /**
+     * 회전 완료: 기존 핸들을 폐기하고, graceSec 동안 후속 토큰(새 AT/RT 핸들)을 가리키는 grace 항목을 남긴다.
+     */
+    void completeRotation(String handle, String accessToken, String newHandle, String userAgent, long graceSec);
+
+    /**
+     * 회전 선점 해제(새 토큰 발급 실패 시)
+     */
+    void releaseRotation(String handle);
+
+    /**
+     * grace 항목 조회. 회전이 진행 중이면 최대 waitMs 동안 완료를 기다린다.
+     * (grace 항목 없음/만료/UA 불일치 시 null)
+     */
+    RtRotation findRotated(String handle, String userAgent, long waitMs);
 }
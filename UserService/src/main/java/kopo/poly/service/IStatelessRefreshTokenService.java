@@ -0,0 +1,40 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.RtSession;
+import kopo.poly.dto.UserInfoDTO;
+
+/**
+ * 무상태(stateless) 리프레시 토큰 서비스
+ * <p>
+ * - RT 자체가 AES-GCM으로 암호화된 토큰(userId, roles, UA 해시, 발급/만료 시각, jti)이므로
+ * 재발급 시 Redis 조회가 필요 없다.
+ * - 폐기(로그아웃)된 토큰은 Redis에 기록하고, 각 인스턴스는 이를 메모리의 Bloom 필터로 주기적으로 동기화한다.
+ * Bloom 필터가 "있을 수도 있음"이라고 답한 경우에만 Redis에서 정확히 확인한다.
+ */
+public interface IStatelessRefreshTokenService {
+
+    /**
+     * 이 서비스가 발급한 형식의 토큰인지(접두어 검사). Redis 핸들과 구분하는 데 사용
+     */
+    boolean supports(String token);
+
+    /**
+     * 암호화된 리프레시 토큰 발급(UA 바인딩)
+     */
+    String issue(UserInfoDTO user, long ttlSec, String userAgent);
+
+    /**
+     * 복호화 + 만료/UA/폐기 여부 검증(무효 시 null). UA 불일치 토큰은 폐기한다.
+     */
+    RtSession validate(String token, String userAgent);
+
+    /**
+     * 단일 토큰 폐기(현재 기기 로그아웃, 회전 시 이전 토큰 폐기)
+     */
+    void revoke(String token);
+
+    /**
+     * 사용자 전체 토큰 폐기(지금 이전에 발급된 모든 토큰 무효)
+     */
+    void revokeAllByUser(String userId);
+}
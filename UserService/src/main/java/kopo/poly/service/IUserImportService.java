@@ -0,0 +1,20 @@
+package kopo.poly.service;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 회원 일괄 등록(기존 시스템 이관용)
+ * - 입력(NDJSON/CSV)을 한 줄씩 읽어 일정 건수마다 해시(병렬) → JDBC batch INSERT 하고,
+ * 처리한 행의 결과를 NDJSON 으로 바로 출력한다. 파일 전체를 메모리에 올리지 않는다.
+ */
+public interface IUserImportService {
+
+    /**
+     * @param in      요청 본문
+     * @param csv     true: CSV(첫 줄 헤더), false: NDJSON
+     * @param adminId 등록자(reg_id/chg_id)
+     * @param out     행 단위 결과(NDJSON) 출력
+     */
+    void importUsers(InputStream in, boolean csv, String adminId, OutputStream out) throws Exception;
+}
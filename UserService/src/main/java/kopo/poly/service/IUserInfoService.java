@@ -1,13 +1,25 @@
 package kopo.poly.service;
 
 import kopo.poly.dto.UserInfoDTO;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-public interface IUserInfoService extends UserDetailsService {
+import java.util.Collection;
+import java.util.List;
+
+// UserDetailsPasswordService: 로그인 성공 시 해시 cost가 달라졌으면 Spring Security가 updatePassword()로 재해시 결과를 전달
+public interface IUserInfoService extends UserDetailsService, UserDetailsPasswordService {
 
     // 회원 가입하기(회원정보 등록하기)
     int insertUserInfo(UserInfoDTO pDTO);
 
-    // 본인 회원 정보 조회
+    // 본인 회원 정보 조회(회원정보 화면용: 이름, 이메일(복호화), 주소)
     UserInfoDTO getUserInfo(UserInfoDTO pDTO) throws Exception;
+
+    // 사용자 식별 정보 조회(아이디, 이름, 권한만, 이메일 복호화 없음)
+    UserInfoDTO getUserIdentity(UserInfoDTO pDTO);
+
+    // 여러 사용자 식별 정보 조회(중복 아이디 제거, 요청 순서 유지, 없는 아이디는 제외)
+    // 아이디 수가 최대 개수를 넘으면 IllegalArgumentException
+    List<UserInfoDTO> getUserIdentities(Collection<String> userIds);
 }
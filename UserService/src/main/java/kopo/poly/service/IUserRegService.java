@@ -0,0 +1,26 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.UserInfoDTO;
+
+/**
+ * 회원가입 처리(비밀번호 해시/이메일 암호화 → INSERT)
+ * - CPU 를 많이 쓰는 해시는 크기가 제한된 전용 스레드 풀에서 실행하여, 가입이 몰려도 해시가 CPU 를 모두 차지하지 않게 한다.
+ * (동시에 실행되는 해시 수가 스레드 수로 제한되므로 로그인 등 다른 요청의 응답 시간이 유지된다.)
+ */
+public interface IUserRegService {
+
+    /**
+     * 회원가입
+     *
+     * @param pDTO 평문 비밀번호/이메일이 담긴 요청 값
+     * @return 1: 성공, 2: 아이디 중복, 0: 실패, 3: 가입 요청이 많아 처리 거부(잠시 후 재시도)
+     */
+    int insertUserInfo(UserInfoDTO pDTO) throws Exception;
+
+    /**
+     * 아이디 사용 가능 여부(가입된 아이디 Bloom 필터가 "없음"이면 DB 조회 없이 응답)
+     *
+     * @return 1: 사용 가능, 2: 이미 사용 중, 0: 아이디 없음
+     */
+    int checkUserId(String userId);
+}
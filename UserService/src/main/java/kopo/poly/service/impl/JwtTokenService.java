@@ -1,8 +1,10 @@
 package kopo.poly.service.impl;
 
 import jakarta.servlet.http.HttpServletResponse;
+import kopo.poly.auth.AccessTokenClaims;
 import kopo.poly.dto.UserInfoDTO;
 import kopo.poly.service.IJwtTokenService;
+import kopo.poly.service.IStatelessRefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,21 +21,17 @@ import java.util.stream.Collectors;
 /**
  * Access 토큰(JWT) 발급 + 쿠키 저장.
  * Refresh는 JWT가 아니라 Redis에 저장되는 "세션 핸들(opaque handle)"을 발급한다.
+ * (jwt.token.refresh.mode=stateless 이면 Redis 조회가 필요 없는 암호화 토큰을 발급한다.)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JwtTokenService implements IJwtTokenService {
 
-    // ====== 상수 ======
-    private static final String CLAIM_USERNAME = "username";
-    private static final String CLAIM_ROLES = "roles";
-    private static final String CLAIM_TYPE = "type";
-    private static final String TYPE_ACCESS = "access"; // refresh JWT는 더이상 만들지 않으므로 access만 사용
-
     // ====== 주입 객체 ======
     private final JwtEncoder jwtEncoder;
     private final RefreshTokenRedisService refreshTokenRedisService; // ★ RT 핸들 저장/회전 담당
+    private final IStatelessRefreshTokenService statelessRefreshTokenService; // RT 암호화 토큰 발급 담당
 
     // ====== 설정 값 ======
     @Value("${jwt.token.creator}")
@@ -44,8 +42,17 @@ public class JwtTokenService implements IJwtTokenService {
     private long refreshTtlSec;
     @Value("${jwt.token.access.name}")
     private String accessCookie;
+    // AT 클레임 형식(standard: 기존 클레임, compact: 짧은 클레임명 + 권한 비트마스크)
+    @Value("${jwt.token.access.profile:standard}")
+    private String accessProfile;
+    // compact 형식에서 이름(n) 포함 여부(로그인 정보 화면에서 이름을 토큰으로만 표시하므로 기본 포함)
+    @Value("${jwt.token.access.compact.include-name:true}")
+    private boolean compactIncludeName;
     @Value("${jwt.token.refresh.name}")
     private String refreshCookie;
+    // RT 발급 방식(handle: Redis 세션 핸들, stateless: AES-GCM 암호화 토큰)
+    @Value("${jwt.token.refresh.mode:handle}")
+    private String refreshMode;
 
     // 운영/개발에 맞추어 조절하고 싶으면 프로퍼티로 뺄 수 있습니다.
     @Value("${app.cookies.secure}")
@@ -74,15 +81,20 @@ public class JwtTokenService implements IJwtTokenService {
         Instant now = Instant.now();
         List<String> roles = splitRoles(user.roles());
 
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        JwtClaimsSet.Builder builder = JwtClaimsSet.builder()
                 .issuer(issuer)
                 .issuedAt(now)
                 .expiresAt(now.plusSeconds(ttlSec))
-                .subject(user.userId())
-                .claim(CLAIM_USERNAME, user.userName())
-                .claim(CLAIM_TYPE, TYPE_ACCESS)
-                .claim(CLAIM_ROLES, roles)
-                .build();
+                .subject(user.userId());
+
+        if ("compact".equalsIgnoreCase(accessProfile)) {
+            AccessTokenClaims.compact(builder, user.userName(), roles, compactIncludeName);
+        } else {
+            builder.claim(AccessTokenClaims.CLAIM_USERNAME, user.userName())
+                    .claim(AccessTokenClaims.CLAIM_TYPE, AccessTokenClaims.TYPE_ACCESS) // refresh JWT는 더이상 만들지 않으므로 access만 사용
+                    .claim(AccessTokenClaims.CLAIM_ROLES, roles);
+        }
+        JwtClaimsSet claims = builder.build();
 
         JwsHeader jwsHeader = JwsHeader.with(MacAlgorithm.HS256).build(); // HS256
         return jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, claims)).getTokenValue();
@@ -104,11 +116,18 @@ public class JwtTokenService implements IJwtTokenService {
      * - 컨트롤러/게이트웨이는 이 값을 기존 RT처럼 쿠키로만 주고받는다(값 자체는 의미 없음).
      */
     @Override
-    public String generateRefreshToken(UserInfoDTO user, String userAgent, HttpServletResponse res) {
+    public String generateRefreshToken(UserInfoDTO user, String userAgent, HttpServletResponse res, String replacingHandle) {
         log.info("{}.generateRefreshToken Start! ua='{}'", getClass().getName(), userAgent);
 
+        // 무상태 모드: 토큰 자체에 클레임을 암호화하여 담음(Redis 저장 없음)
+        if ("stateless".equalsIgnoreCase(refreshMode)) {
+            String token = statelessRefreshTokenService.issue(user, refreshTtlSec, userAgent);
+            log.info("[RT] issued stateless token ttlSec={}", refreshTtlSec);
+            return token;
+        }
+
         // ★ UA 바인딩해서 RT 세션 핸들 발급
-        String handle = refreshTokenRedisService.issueHandle(user, refreshTtlSec, userAgent);
+        String handle = refreshTokenRedisService.issueHandle(user, refreshTtlSec, userAgent, replacingHandle);
 
         log.info("[RT] issued handle={} ttlSec={}", handle, refreshTtlSec);
         return handle;
@@ -0,0 +1,324 @@
+package kopo.poly.service.impl;
+
+import io.lettuce.core.*;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리프레시 세션(rtsid:*) 조회용 근거리 캐시(near-cache)
+ * <p>
+ * 핵심 개념:
+ * - 전용 Lettuce 연결(RESP3)에 CLIENT TRACKING 을 켜고, 이 연결로 읽은 키가 변경/삭제/만료되면
+ * Redis가 invalidate 푸시 메시지를 보내 로컬 항목을 즉시 제거합니다.
+ * - 같은 키를 동시에 조회하는 요청은 하나의 GET 결과를 함께 기다립니다(burst 시 중복 GET 제거).
+ * - GET 진행 중 무효화가 도착하면 자리표시 항목이 제거되므로 오래된 값이 캐시에 남지 않습니다.
+ * - tracking 을 쓸 수 없으면(RESP2/Redis 6 미만/연결 끊김) 짧은 fallback TTL 로만 캐시하고,
+ * fallback TTL 이 0이면 캐시 없이 기존처럼 StringRedisTemplate 으로 조회합니다.
+ * - 존재하지 않는 키(null)는 캐시하지 않습니다(임의 핸들 요청으로 캐시가 채워지지 않도록).
+ * <p>
+ * replica 읽기(app.redis.topology=sentinel/master-replica):
+ * - 캐시를 거치지 않는 조회는 sessionReadRedisTemplate(replica 우선)으로 읽습니다.
+ * - replica 에 없으면 master 에서 다시 읽습니다. 방금 발급/회전된 핸들은 복제 지연으로 replica 에
+ * 아직 없을 수 있으므로(read-your-writes), 없음(null)은 master 결과만 신뢰합니다.
+ * - tracking 연결은 항상 master 에 연결됩니다(sentinel 구성에서는 sentinel 을 통해 master 를 찾음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshSessionNearCache {
+
+    private final StringRedisTemplate redis;
+    // 세션 조회 전용(replica 우선). standalone 에서는 redis 와 같은 연결
+    @Qualifier("sessionReadRedisTemplate")
+    private final StringRedisTemplate readRedis;
+    private final MeterRegistry meterRegistry;
+    // 기본 연결과 이벤트 루프/명령 지연시간 지표를 공유
+    private final ClientResources clientResources;
+
+    @Value("${jwt.token.refresh.near-cache.enabled:false}")
+    private boolean enabled;
+
+    // 최대 항목 수(초과 시 일부를 비움)
+    @Value("${jwt.token.refresh.near-cache.max-size:10000}")
+    private int maxSize;
+
+    // tracking 사용 중 항목 최대 보관 시간(ms). 푸시 유실에 대비한 안전장치
+    @Value("${jwt.token.refresh.near-cache.ttl-ms:60000}")
+    private long trackingTtlMs;
+
+    // tracking 을 쓸 수 없을 때 항목 보관 시간(ms). 0이면 캐시하지 않음
+    @Value("${jwt.token.refresh.near-cache.fallback-ttl-ms:1000}")
+    private long fallbackTtlMs;
+
+    // 전용 연결 GET 대기 시간(ms). 초과 시 StringRedisTemplate 으로 다시 조회
+    @Value("${jwt.token.refresh.near-cache.timeout-ms:1000}")
+    private long timeoutMs;
+
+    @Value("${spring.data.redis.host}")
+    private String redisHost;
+
+    @Value("${spring.data.redis.port}")
+    private int redisPort;
+
+    @Value("${spring.data.redis.username:}")
+    private String redisUsername;
+
+    @Value("${spring.data.redis.password:}")
+    private String redisPassword;
+
+    @Value("${app.redis.topology:standalone}")
+    private String topology;
+
+    @Value("${spring.data.redis.sentinel.master:mymaster}")
+    private String sentinelMaster;
+
+    @Value("${spring.data.redis.sentinel.nodes:}")
+    private String sentinelNodes;
+
+    private record Entry(CompletableFuture<String> value, long expireAt) {
+    }
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    private RedisClient client;
+    private volatile StatefulRedisConnection<String, String> conn;
+    private volatile boolean tracking = false;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter invalidations;
+    private Counter replicaReads;
+    private Counter masterFallbacks;
+
+    @PostConstruct
+    public void init() {
+        replicaReads = Counter.builder("redis.session.reads").tag("source", "session_read")
+                .description("세션 조회 전용 연결(replica 우선)로 읽은 횟수").register(meterRegistry);
+        masterFallbacks = Counter.builder("redis.session.reads").tag("source", "master_fallback")
+                .description("replica 에 없어 master 에서 다시 읽은 횟수").register(meterRegistry);
+
+        if (!enabled) return;
+
+        hits = Counter.builder("redis.nearcache.requests").tag("cache", "rtsid").tag("result", "hit")
+                .description("근거리 캐시 적중 횟수").register(meterRegistry);
+        misses = Counter.builder("redis.nearcache.requests").tag("cache", "rtsid").tag("result", "miss")
+                .description("근거리 캐시 미스(Redis GET) 횟수").register(meterRegistry);
+        invalidations = Counter.builder("redis.nearcache.invalidations").tag("cache", "rtsid")
+                .description("Redis 푸시/로컬 변경으로 제거된 항목 수").register(meterRegistry);
+        Gauge.builder("redis.nearcache.size", cache, Map::size).tag("cache", "rtsid")
+                .description("근거리 캐시 항목 수").register(meterRegistry);
+        Gauge.builder("redis.nearcache.tracking", this, c -> c.tracking ? 1 : 0).tag("cache", "rtsid")
+                .description("CLIENT TRACKING 활성 여부(1/0)").register(meterRegistry);
+
+        RedisURI.Builder uri;
+        if ("sentinel".equalsIgnoreCase(topology)) {
+            uri = RedisURI.builder().withSentinelMasterId(sentinelMaster);
+            for (String node : sentinelNodes.split(",")) {
+                String[] hp = node.trim().split(":", 2);
+                if (hp.length == 2) uri.withSentinel(hp[0], Integer.parseInt(hp[1]));
+            }
+        } else {
+            uri = RedisURI.builder().withHost(redisHost).withPort(redisPort); // standalone / master-replica 의 master
+        }
+        if (redisPassword != null && !redisPassword.isBlank()) {
+            if (redisUsername != null && !redisUsername.isBlank()) {
+                uri.withAuthentication(redisUsername, redisPassword.toCharArray());
+            } else {
+                uri.withPassword(redisPassword.toCharArray());
+            }
+        }
+
+        try {
+            client = RedisClient.create(clientResources, uri.build());
+            client.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+
+            client.addListener(new RedisConnectionStateListener() {
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+                    // 끊긴 동안의 무효화는 받을 수 없으므로 전체 비움
+                    tracking = false;
+                    cache.clear();
+                }
+
+                @Override
+                public void onRedisConnected(RedisChannelHandler<?, ?> connection, SocketAddress addr) {
+                    // 재연결 시 서버의 tracking 상태가 사라지므로 다시 켬
+                    StatefulRedisConnection<String, String> c = conn;
+                    if (c != null && !tracking) {
+                        c.async().clientTracking(TrackingArgs.Builder.enabled())
+                                .thenAccept(ok -> tracking = true);
+                    }
+                }
+            });
+
+            StatefulRedisConnection<String, String> c = client.connect();
+            c.addListener(msg -> {
+                if ("invalidate".equals(msg.getType())) {
+                    onInvalidate(msg.getContent(StringCodec.UTF8::decodeKey));
+                }
+            });
+            c.sync().clientTracking(TrackingArgs.Builder.enabled());
+
+            conn = c;
+            tracking = true;
+            log.info("RefreshSessionNearCache | tracking enabled | maxSize={} ttlMs={}", maxSize, trackingTtlMs);
+        } catch (Exception e) {
+            log.warn("RefreshSessionNearCache | tracking unavailable, fallbackTtlMs={} : {}", fallbackTtlMs, e.getMessage());
+            close();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        tracking = false;
+        cache.clear();
+        StatefulRedisConnection<String, String> c = conn;
+        conn = null;
+        if (c != null) c.close();
+        if (client != null) {
+            client.shutdown();
+            client = null;
+        }
+    }
+
+    /**
+     * 키 조회(캐시 → Redis)
+     *
+     * @param key rtsid:{handle}
+     * @return 값, 없으면 null
+     */
+    public String get(String key) {
+        if (!enabled) return readSession(key);
+
+        StatefulRedisConnection<String, String> c = conn;
+        boolean useTracking = tracking && c != null;
+        long ttl = useTracking ? trackingTtlMs : fallbackTtlMs;
+        if (ttl <= 0) return readSession(key);
+
+        long now = System.currentTimeMillis();
+        Entry mine = new Entry(new CompletableFuture<>(), now + ttl);
+        Entry cur = cache.compute(key, (k, old) -> (old != null && old.expireAt() > now) ? old : mine);
+
+        if (cur != mine) {
+            hits.increment();
+            return await(key, cur);
+        }
+
+        misses.increment();
+        evictIfFull();
+
+        if (useTracking) {
+            // tracking 연결로 읽어야 서버가 이 키를 추적함
+            c.async().get(key).whenComplete((v, ex) -> complete(key, mine, v, ex));
+        } else {
+            try {
+                complete(key, mine, readSession(key), null);
+            } catch (RuntimeException e) {
+                complete(key, mine, null, e);
+            }
+        }
+        return await(key, mine);
+    }
+
+    /**
+     * 세션 조회(replica 우선 → 없으면 master)
+     */
+    private String readSession(String key) {
+        if (readRedis.getConnectionFactory() == redis.getConnectionFactory()) {
+            return redis.opsForValue().get(key); // standalone
+        }
+
+        replicaReads.increment();
+        String value = readRedis.opsForValue().get(key);
+        if (value == null) {
+            masterFallbacks.increment();
+            value = redis.opsForValue().get(key);
+        }
+        return value;
+    }
+
+    /**
+     * 로컬 변경 즉시 반영(푸시 도착 전 같은 인스턴스 재조회 대비)
+     */
+    public void invalidate(String key) {
+        if (!enabled) return;
+        if (cache.remove(key) != null) invalidations.increment();
+    }
+
+    private void complete(String key, Entry mine, String value, Throwable ex) {
+        if (ex != null) {
+            cache.remove(key, mine);
+            mine.value().completeExceptionally(ex);
+            return;
+        }
+        if (value == null) {
+            cache.remove(key, mine); // 없는 키는 캐시하지 않음
+        }
+        mine.value().complete(value);
+    }
+
+    private String await(String key, Entry e) {
+        try {
+            return e.value().get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            cache.remove(key, e);
+            return readSession(key); // 전용 연결 지연/오류 시 기존 경로로 조회
+        }
+    }
+
+    private void onInvalidate(List<Object> content) {
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys == null) {
+            // FLUSHDB/FLUSHALL 등: 전체 무효화
+            int n = cache.size();
+            cache.clear();
+            invalidations.increment(n);
+            return;
+        }
+        if (keys instanceof List<?> list) {
+            for (Object k : list) {
+                String key = (k instanceof ByteBuffer bb) ? StringCodec.UTF8.decodeKey(bb) : String.valueOf(k);
+                if (cache.remove(key) != null) invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * 최대 크기 초과 시 만료 항목을 먼저 지우고, 그래도 넘치면 임의 순서로 10%를 비움
+     */
+    private void evictIfFull() {
+        if (cache.size() <= maxSize) return;
+
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(e -> e.expireAt() <= now);
+
+        int excess = cache.size() - (int) (maxSize * 0.9);
+        Iterator<String> it = cache.keySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
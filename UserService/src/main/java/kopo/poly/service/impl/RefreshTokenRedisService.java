@@ -1,13 +1,24 @@
 package kopo.poly.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kopo.poly.dto.RtRotation;
 import kopo.poly.dto.RtSession;
+import kopo.poly.dto.SessionInfoDTO;
 import kopo.poly.dto.UserInfoDTO;
 import kopo.poly.service.IRefreshTokenRedisService;
 import kopo.poly.util.EncryptUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -26,16 +37,121 @@ public class RefreshTokenRedisService implements IRefreshTokenRedisService {
 
     // Redis에 접근하기 위한 템플릿 객체
     private final StringRedisTemplate redis;
+    // 세션 조회용 근거리 캐시(CLIENT TRACKING, 비활성 시 redis GET 과 동일)
+    private final RefreshSessionNearCache nearCache;
     // JSON 직렬화/역직렬화를 위한 ObjectMapper
     private final ObjectMapper om = new ObjectMapper();
 
+    // grace 항목 값: 회전 선점 후 새 토큰 저장 전까지의 상태
+    private static final String ROTATION_PENDING = "PENDING";
+
+    // 회전 진행 중(PENDING)일 때 grace 항목 재조회 간격(ms)
+    private static final long ROTATION_POLL_MS = 20;
+
+    // 세션 키 접두어
+    private static final String SESSION_PREFIX = "rtsid:";
+
+    // 세션 목록 표시용 User-Agent 최대 저장 길이
+    private static final int UA_DISPLAY_MAX = 200;
+
+    /**
+     * 세션 발급 + 사용자별 인덱스 갱신 + 최대 세션 수 초과분 제거를 한 번의 왕복으로 처리하는 Lua 스크립트
+     * - KEYS[1]: rtsid:{handle}, KEYS[2]: rtuser:{userId}
+     * - ARGV: 세션 JSON, TTL(초), 발급시각(ms), 핸들, 최대 세션 수(0=무제한), 세션 키 접두어, 회전되는 이전 핸들(없으면 "")
+     * - 재발급(회전)이면 이전 핸들을 먼저 인덱스에서 빼므로, 곧 폐기될 이전 세션이 최대치 계산에 들어가지 않습니다.
+     *   (최대치에 도달한 사용자가 재발급할 때마다 다른 기기의 세션이 밀려나지 않도록)
+     * - 인덱스(ZSET, score=발급시각)에서 이미 사라진 세션(만료/로그아웃/회전)을 정리한 뒤,
+     *   남은 세션이 최대치를 넘으면 가장 오래된 것부터 삭제하고 삭제된 핸들 목록을 반환합니다.
+     * - 세션 키를 KEYS 로 선언하지 않으므로 Redis Cluster 가 아닌 단일 마스터 구성을 전제로 합니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[4])
+            if ARGV[7] ~= '' then
+              redis.call('ZREM', KEYS[2], ARGV[7])
+            end
+            local live = {}
+            for _, h in ipairs(redis.call('ZRANGE', KEYS[2], 0, -1)) do
+              if redis.call('EXISTS', ARGV[6] .. h) == 1 then
+                table.insert(live, h)
+              else
+                redis.call('ZREM', KEYS[2], h)
+              end
+            end
+            local evicted = {}
+            local max = tonumber(ARGV[5])
+            if max > 0 and #live > max then
+              for i = 1, #live - max do
+                redis.call('DEL', ARGV[6] .. live[i])
+                redis.call('ZREM', KEYS[2], live[i])
+                table.insert(evicted, live[i])
+              end
+            end
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return evicted
+            """, List.class);
+
+    /**
+     * 회전 선점 스크립트(master 에서 원자적으로 실행)
+     * - KEYS[1]: rtsid:{handle}, KEYS[2]: rtgrace:{handle}
+     * - ARGV: PENDING 값, grace 유지 시간(초)
+     * - 세션이 master 에 아직 살아 있을 때만 grace 키를 SET NX 로 만듭니다.
+     *   세션 조회를 replica 에서 하더라도, 이미 로그아웃/회전된 핸들은 여기서 걸러집니다.
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            if redis.call('SET', KEYS[2], ARGV[1], 'NX', 'EX', ARGV[2]) then
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 사용자당 최대 동시 세션 수(초과 시 가장 오래된 세션부터 폐기, 0이면 무제한)
+    @Value("${jwt.token.refresh.max-sessions:10}")
+    private int maxSessions;
+
+    // 인덱스 도입 이전 세션을 사용자별 인덱스에 등록하는 1회성 작업 완료 표시(값: 완료 시각)
+    private static final String LEGACY_INDEXED_KEY = "rtmigrate:legacy-indexed";
+
+    // 기동 시 인덱스 도입 이전 세션을 사용자별 인덱스에 1회 등록(완료 표시가 있으면 건너뜀)
+    @Value("${jwt.token.refresh.index-legacy-sessions:true}")
+    private boolean indexLegacy;
+
     /**
      * Redis 키 생성 함수
      * - 세션 핸들(handle)을 받아 Redis에 저장할 때 사용할 키를 만듭니다.
      * - 예시: rtsid:핸들값
      */
     private String key(String handle) {
-        return "rtsid:" + handle;
+        return SESSION_PREFIX + handle;
+    }
+
+    /**
+     * 사용자별 세션 인덱스 키 생성 함수
+     * - ZSET(member=핸들, score=발급시각 ms)
+     * - 예시: rtuser:사용자아이디
+     */
+    private String userKey(String userId) {
+        return "rtuser:" + userId;
+    }
+
+    /**
+     * 세션 목록에 노출할 세션 식별자(핸들 해시 앞부분)
+     * - 핸들 자체는 자격증명이므로 응답에 포함하지 않습니다.
+     */
+    private String sessionId(String handle) {
+        return EncryptUtil.encHashSHA256(handle).substring(0, 16);
+    }
+
+    /**
+     * 회전 grace 항목 키 생성 함수
+     * - 예시: rtgrace:회전전핸들값
+     */
+    private String graceKey(String handle) {
+        return "rtgrace:" + handle;
     }
 
     /**
@@ -61,29 +177,43 @@ public class RefreshTokenRedisService implements IRefreshTokenRedisService {
      * @param user      사용자 정보 DTO
      * @param ttlSec    세션 만료 시간(초)
      * @param userAgent User-Agent 문자열(브라우저 정보 등)
+     * @param replacingHandle 회전되는 이전 핸들(최초 로그인이면 null, 최대 세션 수 계산에서 제외)
      * @return 새로 발급된 세션 핸들 값
      */
     @Override
-    public String issueHandle(UserInfoDTO user, long ttlSec, String userAgent) {
+    public String issueHandle(UserInfoDTO user, long ttlSec, String userAgent, String replacingHandle) {
         String handle = UUID.randomUUID().toString().replace("-", ""); // 랜덤 핸들 생성
         String uaHash = EncryptUtil.encHashSHA256(Objects.toString(userAgent, "")); // User-Agent 해시
         List<String> roles = splitRoles(user.roles()); // 권한 목록 변환
 
+        String ua = Objects.toString(userAgent, "");
+        Instant now = Instant.now();
+
         // RtSession 객체를 빌더 패턴으로 생성
         RtSession rec = RtSession.builder()
                 .userId(user.userId())
                 .userName(user.userName())
                 .roles(roles)
                 .uaHash(uaHash)
-                .issuedAt(Instant.now().toString())
+                .issuedAt(now.toString())
+                .userAgent(ua.length() > UA_DISPLAY_MAX ? ua.substring(0, UA_DISPLAY_MAX) : ua)
+                .prevHandle(replacingHandle)
                 .build();
 
+        List<?> evicted;
         try {
-            // Redis에 세션 정보 저장 (JSON 직렬화)
-            redis.opsForValue().set(key(handle), om.writeValueAsString(rec), Duration.ofSeconds(ttlSec));
+            // Redis에 세션 정보 저장 (JSON 직렬화) + 사용자별 인덱스 등록 + 최대 세션 수 초과분 제거
+            evicted = redis.execute(ISSUE_SCRIPT, List.of(key(handle), userKey(user.userId())),
+                    om.writeValueAsString(rec), String.valueOf(ttlSec), String.valueOf(now.toEpochMilli()),
+                    handle, String.valueOf(maxSessions), SESSION_PREFIX, Objects.toString(replacingHandle, ""));
         } catch (Exception e) {
             throw new IllegalStateException("RT 세션 저장 실패", e);
         }
+
+        if (evicted != null && !evicted.isEmpty()) {
+            evicted.forEach(h -> nearCache.invalidate(key(String.valueOf(h))));
+            log.info("issueHandle | userId: {} | maxSessions: {} | evicted: {}", user.userId(), maxSessions, evicted.size());
+        }
         return handle;
     }
 
@@ -104,7 +234,7 @@ public class RefreshTokenRedisService implements IRefreshTokenRedisService {
     public RtSession validate(String handle, String userAgent) {
         log.info("{}.validate Start!", getClass().getName());
         try {
-            String raw = redis.opsForValue().get(key(handle)); // Redis에서 세션 정보 조회
+            String raw = nearCache.get(key(handle)); // 세션 정보 조회(근거리 캐시 → Redis)
             log.info("validate info | raw: {} | handle: {} | userAgent: {}", raw, handle, userAgent);
 
             if (raw == null) return null; // 세션 정보 없음
@@ -114,6 +244,7 @@ public class RefreshTokenRedisService implements IRefreshTokenRedisService {
                 String nowUaHash = EncryptUtil.encHashSHA256(userAgent);
                 if (!Objects.equals(rec.uaHash(), nowUaHash)) {
                     redis.delete(key(handle)); // User-Agent 불일치 시 세션 삭제
+                    nearCache.invalidate(key(handle));
                     return null;
                 }
             }
@@ -130,6 +261,8 @@ public class RefreshTokenRedisService implements IRefreshTokenRedisService {
     /**
      * 단일 세션 핸들 폐기 (로그아웃)
      * - 특정 핸들 값에 해당하는 세션을 Redis에서 삭제합니다.
+     * - 이 세션을 만든 이전 핸들의 grace 항목(이 세션의 토큰을 담고 있음)도 함께 삭제하여,
+     *   로그아웃 직후 이전 RT 를 다시 보내 grace 로 토큰을 받는 것을 막습니다.
      *
      * @param handle 세션 핸들 값
      */
@@ -138,30 +271,282 @@ public class RefreshTokenRedisService implements IRefreshTokenRedisService {
         log.info("{}.revokeHandle Start!", getClass().getName());
         log.info("revokeHandle :  {} ", handle);
 
-        redis.delete(key(handle));
+        List<String> keys = new ArrayList<>(List.of(key(handle), graceKey(handle)));
+        String prev = prevHandle(redis.opsForValue().get(key(handle)));
+        if (prev != null) keys.add(graceKey(prev));
+
+        redis.delete(keys); // 세션 + 회전 grace 항목 함께 삭제
+        nearCache.invalidate(key(handle));
+    }
+
+    /**
+     * 세션 JSON 의 이전 핸들(회전으로 만들어진 세션이 아니거나 읽을 수 없으면 null)
+     */
+    private String prevHandle(String raw) {
+        if (raw == null) return null;
+        try {
+            return om.readValue(raw, RtSession.class).prevHandle();
+        } catch (Exception e) {
+            return null;
+        }
     }
 
     /**
      * 사용자 전체 세션 폐기 (모든 기기 로그아웃)
      * - 해당 사용자 ID로 등록된 모든 세션을 Redis에서 삭제합니다.
-     * - 운영 환경에서는 인덱스 관리가 필요하며, 여기서는 전체 키를 스캔합니다.
+     * - 사용자별 인덱스(rtuser:{userId})에 등록된 핸들만 삭제합니다(rtsid:* 를 훑지 않음).
+     *   인덱스 도입 이전 세션은 기동 시 indexLegacySessions() 가 한 번 인덱스에 등록합니다.
      *
      * @param userId 사용자 ID
      */
     @Override
     public void revokeAllByUser(String userId) {
-        Set<String> keys = redis.keys("rtsid:*"); // 모든 세션 키 조회
-        if (keys == null || keys.isEmpty()) return;
-        for (String k : keys) {
+        Set<String> handles = redis.opsForZSet().range(userKey(userId), 0, -1); // 사용자 세션 핸들 목록
+        List<String> keys = new ArrayList<>();
+        if (handles != null && !handles.isEmpty()) {
+            List<String> sessionKeys = handles.stream().map(this::key).toList();
+            List<String> raws = redis.opsForValue().multiGet(sessionKeys); // 이전 핸들(grace 항목) 확인용
+            int i = 0;
+            for (String h : handles) {
+                keys.add(key(h));
+                keys.add(graceKey(h));
+                String prev = prevHandle(raws == null ? null : raws.get(i));
+                if (prev != null) keys.add(graceKey(prev));
+                i++;
+            }
+        }
+        keys.add(userKey(userId));
+
+        Long deleted = redis.delete(keys); // 세션 + grace 항목 + 인덱스 일괄 삭제
+        keys.forEach(nearCache::invalidate);
+        log.info("revokeAllByUser | userId: {} | deleted keys: {}", userId, deleted);
+    }
+
+    /**
+     * 인덱스 도입 이전에 발급된(rtuser:{userId} 에 없는) 세션을 사용자별 인덱스에 등록(1회성)
+     * - rtsid:* 를 SCAN 하는 작업은 키 공간 전체에 비례하므로 요청 처리(전체 로그아웃)마다 하지 않고,
+     *   기동 후 별도 스레드에서 한 번만 실행합니다. 이후 전체 폐기는 인덱스만 사용합니다.
+     * - 완료 표시(rtmigrate:legacy-indexed)가 있으면 건너뛰고, 여러 인스턴스가 동시에 기동해도 잠금 키로 한 곳만 실행합니다.
+     * - ZADD NX(score=발급시각)라 다시 실행해도 안전합니다. 인덱스 만료 시간은 세션 남은 시간보다 짧지 않게 맞춥니다.
+     * - 이전 세션은 RT TTL(기본 14일)이 지나면 모두 만료되므로, 그 뒤에는 이 작업과 설정을 제거합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!indexLegacy) return;
+
+        Thread t = new Thread(this::indexLegacySessions, "rt-legacy-index");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private void indexLegacySessions() {
+        String lockKey = LEGACY_INDEXED_KEY + ":lock";
+        try {
+            if (Boolean.TRUE.equals(redis.hasKey(LEGACY_INDEXED_KEY))) return;
+            if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(lockKey, "1", Duration.ofMinutes(10)))) return;
+        } catch (Exception e) {
+            log.warn("indexLegacySessions skipped | {}", e.getMessage());
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            long scanned = 0, indexed = 0;
+            ScanOptions options = ScanOptions.scanOptions().match(SESSION_PREFIX + "*").count(1000).build();
+
+            try (Cursor<String> cursor = redis.scan(options)) {
+                while (cursor.hasNext()) {
+                    String k = cursor.next();
+                    scanned++;
+                    try {
+                        String raw = redis.opsForValue().get(k);
+                        Long ttl = redis.getExpire(k);
+                        if (raw == null || ttl == null || ttl <= 0) continue;
+
+                        RtSession rec = om.readValue(raw, RtSession.class);
+                        String uKey = userKey(rec.userId());
+                        double score = rec.issuedAt() == null ? 0 : Instant.parse(rec.issuedAt()).toEpochMilli();
+
+                        if (Boolean.TRUE.equals(redis.opsForZSet().addIfAbsent(uKey, k.substring(SESSION_PREFIX.length()), score))) {
+                            indexed++;
+                        }
+                        Long indexTtl = redis.getExpire(uKey);
+                        if (indexTtl == null || indexTtl < ttl) { // -1: 방금 ZADD 로 새로 만든 키
+                            redis.expire(uKey, Duration.ofSeconds(ttl));
+                        }
+                    } catch (Exception ignore) {
+                    }
+                }
+            }
+
+            redis.opsForValue().set(LEGACY_INDEXED_KEY, Instant.now().toString());
+            log.info("indexLegacySessions | scanned: {} | indexed: {} | elapsedMs: {}",
+                    scanned, indexed, System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            log.warn("indexLegacySessions failed | {}", e.getMessage());
+
+        } finally {
+            redis.delete(lockKey);
+        }
+    }
+
+    // =========================
+    // List (세션 목록)
+    // =========================
+
+    /**
+     * 사용자 세션 목록 조회 (최신순)
+     * - 사용자별 인덱스의 핸들로 세션 정보를 한 번에(MGET) 조회합니다.
+     * - 만료/폐기되어 사라진 세션은 인덱스에서 정리합니다.
+     *
+     * @param userId        사용자 ID
+     * @param currentHandle 현재 요청 쿠키의 핸들(현재 기기 표시용, 없으면 null)
+     * @return 세션 목록
+     */
+    @Override
+    public List<SessionInfoDTO> listSessions(String userId, String currentHandle) {
+        log.info("{}.listSessions Start!", getClass().getName());
+
+        Set<String> handleSet = redis.opsForZSet().reverseRange(userKey(userId), 0, -1); // 최신순
+        if (handleSet == null || handleSet.isEmpty()) return List.of();
+
+        List<String> handles = new ArrayList<>(handleSet);
+        List<String> raws = redis.opsForValue().multiGet(handles.stream().map(this::key).toList());
+
+        List<SessionInfoDTO> rList = new ArrayList<>();
+        List<String> stale = new ArrayList<>();
+
+        for (int i = 0; i < handles.size(); i++) {
+            String h = handles.get(i);
+            String raw = (raws == null) ? null : raws.get(i);
+            if (raw == null) {
+                stale.add(h);
+                continue;
+            }
             try {
-                String raw = redis.opsForValue().get(k);
-                if (raw == null) continue;
                 RtSession rec = om.readValue(raw, RtSession.class);
-                if (userId.equals(rec.userId())) {
-                    redis.delete(k); // 해당 사용자 세션 삭제
+                rList.add(SessionInfoDTO.builder()
+                        .sessionId(sessionId(h))
+                        .issuedAt(rec.issuedAt())
+                        .userAgent(rec.userAgent())
+                        .current(h.equals(currentHandle))
+                        .build());
+            } catch (Exception e) {
+                stale.add(h);
+            }
+        }
+
+        if (!stale.isEmpty()) {
+            redis.opsForZSet().remove(userKey(userId), stale.toArray());
+        }
+
+        log.info("{}.listSessions End! size={} stale={}", getClass().getName(), rList.size(), stale.size());
+        return rList;
+    }
+
+    // =========================
+    // Rotation grace (동시 리프레시 흡수)
+    // =========================
+
+    /**
+     * 회전 선점
+     * - rtgrace:{handle} 키를 SET NX 로 생성하여 동시에 들어온 요청 중 하나만 새 토큰을 발급하도록 합니다.
+     * - 세션 존재 확인과 선점을 master 에서 한 번에 수행하므로, replica 의 지연된 세션으로는 회전할 수 없습니다.
+     * - 발급이 끝나기 전까지 값은 PENDING 이며, TTL(graceSec)이 지나면 자동 해제됩니다.
+     *
+     * @param handle   회전할 세션 핸들 값
+     * @param graceSec grace 유지 시간(초)
+     * @return 선점 성공 여부
+     */
+    @Override
+    public boolean claimRotation(String handle, long graceSec) {
+        Long ok = redis.execute(CLAIM_SCRIPT, List.of(key(handle), graceKey(handle)),
+                ROTATION_PENDING, String.valueOf(graceSec));
+        return ok != null && ok == 1L;
+    }
+
+    /**
+     * 회전 완료
+     * - grace 항목에 새 AT/RT 핸들을 저장(TTL=graceSec)한 뒤 기존 세션을 삭제합니다.
+     * - grace 시간 동안 기존 핸들로 들어온 요청은 findRotated()로 같은 토큰을 돌려받습니다.
+     * - 두 명령은 서로의 결과가 필요 없으므로 파이프라인으로 한 번에 전송합니다(서버에서는 순서대로 실행).
+     */
+    @Override
+    public void completeRotation(String handle, String accessToken, String newHandle, String userAgent, long graceSec) {
+        log.info("{}.completeRotation Start!", getClass().getName());
+
+        RtRotation rec = RtRotation.builder()
+                .accessToken(accessToken)
+                .refreshHandle(newHandle)
+                .uaHash(EncryptUtil.encHashSHA256(Objects.toString(userAgent, "")))
+                .rotatedAt(Instant.now().toString())
+                .build();
+
+        String json = null;
+        try {
+            json = om.writeValueAsString(rec);
+        } catch (Exception e) {
+            log.warn("rotation grace 직렬화 실패 | handle: {} | {}", handle, e.getMessage());
+        }
+
+        String graceJson = json;
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                if (graceJson != null) {
+                    conn.setEx(graceKey(handle), graceSec, graceJson); // grace 항목 저장
+                } else {
+                    conn.del(graceKey(handle)); // PENDING 상태로 남지 않도록 정리
+                }
+                conn.del(key(handle)); // 기존 세션 폐기(회전)
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("rotation 완료 저장 실패 | handle: {} | {}", handle, e.getMessage());
+            redis.delete(List.of(graceKey(handle), key(handle)));
+        }
+        nearCache.invalidate(key(handle));
+    }
+
+    /**
+     * 회전 선점 해제
+     * - 새 토큰 발급에 실패했을 때 PENDING 항목을 지워 다음 요청이 다시 회전할 수 있게 합니다.
+     */
+    @Override
+    public void releaseRotation(String handle) {
+        redis.delete(graceKey(handle));
+    }
+
+    /**
+     * 회전 grace 항목 조회
+     * - 항목이 없으면 즉시 null 을 반환합니다(일반 리프레시 진행).
+     * - PENDING 이면 다른 요청이 회전 중이므로 최대 waitMs 동안 완료를 기다립니다.
+     * - 저장된 User-Agent 해시와 다르면 null 을 반환합니다(도난 방지).
+     */
+    @Override
+    public RtRotation findRotated(String handle, String userAgent, long waitMs) {
+        long deadline = System.nanoTime() + Duration.ofMillis(waitMs).toNanos();
+
+        try {
+            while (true) {
+                String raw = redis.opsForValue().get(graceKey(handle));
+                if (raw == null) return null; // 회전 이력 없음 또는 grace 만료
+
+                if (!ROTATION_PENDING.equals(raw)) {
+                    RtRotation rec = om.readValue(raw, RtRotation.class);
+                    String nowUaHash = EncryptUtil.encHashSHA256(Objects.toString(userAgent, ""));
+                    return Objects.equals(rec.uaHash(), nowUaHash) ? rec : null;
                 }
-            } catch (Exception ignore) {
+
+                if (System.nanoTime() >= deadline) return null; // 회전 완료를 기다리지 못함
+                Thread.sleep(ROTATION_POLL_MS);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            return null;
         }
     }
 }
@@ -0,0 +1,434 @@
+package kopo.poly.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kopo.poly.dto.RtClaims;
+import kopo.poly.dto.RtSession;
+import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.service.IStatelessRefreshTokenService;
+import kopo.poly.util.BloomFilter;
+import kopo.poly.util.EncryptUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StatelessRefreshTokenService
+ * - 리프레시 토큰을 AES-GCM(AEAD)으로 암호화된 자기완결형 토큰으로 발급/검증하는 서비스 구현체입니다.
+ * - 토큰 형식: "v1." + base64url(IV(12바이트) + 암호문 + 인증태그(16바이트))
+ * <p>
+ * 폐기 목록:
+ * - Redis ZSET rtrevoked (member=jti, score=폐기 시각 ms): 단일 토큰 폐기
+ * - Redis HASH rtrevoked:user (field=userId, value=폐기 시각 ms): 그 시각 이전에 발급된 사용자 토큰 전체 폐기
+ * - 각 인스턴스는 jti 목록을 Bloom 필터로, 사용자 폐기 시각은 Map으로 메모리에 주기적으로 동기화합니다.
+ * - 대부분의 검증은 Bloom 필터에서 "없음"으로 끝나며, "있을 수도 있음"일 때만 Redis에서 정확히 확인합니다.
+ * - 다른 인스턴스에서 폐기한 토큰은 최대 동기화 주기(sync-ms)만큼 늦게 반영됩니다.
+ * - Bloom 필터 크기는 재구성 시점의 폐기 건수(ZCARD)의 2배이며, 그 사이 반영 건수가 이를 넘으면 주기 전에 다시 만듭니다.
+ * - jwt.token.refresh.mode 가 stateless 가 아니면 동기화하지 않습니다.
+ * (전환 전에 발급된 무상태 토큰이 남아 있으면 동기화 전 상태와 같이 Redis 에서 직접 확인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatelessRefreshTokenService implements IStatelessRefreshTokenService {
+
+    // Redis에 접근하기 위한 템플릿 객체
+    private final StringRedisTemplate redis;
+    // 폐기 목록 조회 지표 등록
+    private final MeterRegistry meterRegistry;
+    // JSON 직렬화/역직렬화를 위한 ObjectMapper
+    private final ObjectMapper om = new ObjectMapper();
+
+    // 토큰 접두어(형식 버전). Redis 핸들(32자리 hex)과 구분됩니다.
+    private static final String TOKEN_PREFIX = "v1.";
+
+    // 암호화 시 함께 인증되는 추가 데이터(형식 버전 위조 방지)
+    private static final byte[] AAD = "rt-v1".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int IV_LEN = 12;
+    private static final int TAG_BITS = 128;
+
+    // 폐기 목록 Redis 키
+    private static final String REVOKED_KEY = "rtrevoked";
+    private static final String REVOKED_USER_KEY = "rtrevoked:user";
+
+    // 증분 동기화 시 시계 오차/동시 기록을 흡수하기 위한 겹침 구간(ms)
+    private static final long SYNC_OVERLAP_MS = 2_000;
+
+    private static final Base64.Encoder B64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64URL_DEC = Base64.getUrlDecoder();
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // 스레드별 AES-GCM Cipher (IV가 매번 다르므로 호출마다 init 하되 인스턴스는 재사용)
+    private static final ThreadLocal<Cipher> gcm = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance("AES/GCM/NoPadding");
+        } catch (Exception e) {
+            throw new IllegalStateException("AES/GCM 초기화 실패", e);
+        }
+    });
+
+    @Value("${jwt.secret.key}")
+    private String secretBase64;
+
+    // 전용 암호화 키(Base64, 16/24/32바이트). 비어 있으면 jwt.secret.key 에서 파생
+    @Value("${jwt.token.refresh.stateless.key:}")
+    private String aeadKeyBase64;
+
+    @Value("${jwt.token.refresh.valid.time}")
+    private long refreshTtlSec;
+
+    // Bloom 필터 전체 재구성 주기(ms). 재구성 시 만료된 폐기 항목을 정리
+    @Value("${jwt.token.refresh.stateless.rebuild-ms:600000}")
+    private long rebuildMs;
+
+    // RT 방식(stateless 일 때만 폐기 목록 동기화)
+    @Value("${jwt.token.refresh.mode:handle}")
+    private String refreshMode;
+
+    // Bloom 필터 최소 크기(실제 크기는 재구성 시 폐기 건수 × 2) / 허용 오탐률
+    @Value("${jwt.token.refresh.stateless.expected-revocations:100000}")
+    private long expectedRevocations;
+
+    @Value("${jwt.token.refresh.stateless.fpp:0.001}")
+    private double fpp;
+
+    private SecretKeySpec aeadKey;
+
+    // ===== 메모리 폐기 목록 (동기화 스레드가 교체, 요청 스레드는 읽기) =====
+    private volatile BloomFilter revokedJti;
+    private volatile Map<String, Long> userCutoff = new ConcurrentHashMap<>();
+    private volatile boolean synced = false;
+    private volatile long revokedCount = 0;
+    private long bloomCapacity = 0; // 현재 Bloom 필터 크기 산정 건수(넘으면 재구성)
+    private long lastSyncMs = 0;
+    private long lastRebuildMs = 0;
+
+    private Counter bloomNegative;
+    private Counter exactChecked;
+    private Counter revokedHit;
+
+    @PostConstruct
+    public void init() throws Exception {
+        this.aeadKey = new SecretKeySpec(resolveKey(), "AES");
+        this.revokedJti = BloomFilter.create(expectedRevocations, fpp);
+
+        bloomNegative = Counter.builder("refresh.stateless.revocation.check")
+                .tag("result", "bloom_negative")
+                .description("Bloom 필터만으로 폐기되지 않음을 확인한 횟수")
+                .register(meterRegistry);
+        exactChecked = Counter.builder("refresh.stateless.revocation.check")
+                .tag("result", "redis_checked")
+                .description("Bloom 필터 양성/미동기화로 Redis에서 확인한 횟수")
+                .register(meterRegistry);
+        revokedHit = Counter.builder("refresh.stateless.revocation.check")
+                .tag("result", "revoked")
+                .description("폐기된 토큰으로 판정된 횟수")
+                .register(meterRegistry);
+        Gauge.builder("refresh.stateless.revocation.entries", this, s -> s.revokedCount)
+                .description("메모리 Bloom 필터에 반영된 폐기 jti 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * AES 키 결정
+     * - jwt.token.refresh.stateless.key 가 있으면 그대로 사용
+     * - 없으면 SHA-256("refresh-token-aead|" + JWT 서명 키)로 256비트 키를 파생(서명 키를 그대로 재사용하지 않음)
+     */
+    private byte[] resolveKey() throws Exception {
+        if (aeadKeyBase64 != null && !aeadKeyBase64.isBlank()) {
+            byte[] k = Base64.getDecoder().decode(aeadKeyBase64.trim());
+            if (k.length != 16 && k.length != 24 && k.length != 32) {
+                throw new IllegalStateException("jwt.token.refresh.stateless.key 는 16/24/32바이트여야 합니다: " + k.length);
+            }
+            return k;
+        }
+        MessageDigest sha = MessageDigest.getInstance("SHA-256");
+        sha.update("refresh-token-aead|".getBytes(StandardCharsets.US_ASCII));
+        return sha.digest(Base64.getDecoder().decode(secretBase64));
+    }
+
+    @Override
+    public boolean supports(String token) {
+        return token != null && token.startsWith(TOKEN_PREFIX);
+    }
+
+    // =========================
+    // Issue (발급)
+    // =========================
+
+    /**
+     * 암호화된 리프레시 토큰 발급
+     *
+     * @param user      사용자 정보
+     * @param ttlSec    토큰 유효기간(초)
+     * @param userAgent User-Agent 문자열
+     * @return "v1." 로 시작하는 토큰 문자열
+     */
+    @Override
+    public String issue(UserInfoDTO user, long ttlSec, String userAgent) {
+        long now = System.currentTimeMillis();
+
+        byte[] jti = new byte[16];
+        RANDOM.nextBytes(jti);
+
+        RtClaims claims = RtClaims.builder()
+                .jti(B64URL.encodeToString(jti))
+                .sub(user.userId())
+                .name(user.userName())
+                .roles(splitRoles(user.roles()))
+                .ua(EncryptUtil.encHashSHA256(Objects.toString(userAgent, "")))
+                .iat(now)
+                .exp(now + ttlSec * 1000)
+                .build();
+
+        try {
+            byte[] plain = om.writeValueAsBytes(claims);
+
+            byte[] iv = new byte[IV_LEN];
+            RANDOM.nextBytes(iv);
+
+            Cipher cipher = gcm.get();
+            cipher.init(Cipher.ENCRYPT_MODE, aeadKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(AAD);
+
+            byte[] out = new byte[IV_LEN + cipher.getOutputSize(plain.length)];
+            System.arraycopy(iv, 0, out, 0, IV_LEN);
+            cipher.doFinal(plain, 0, plain.length, out, IV_LEN);
+
+            return TOKEN_PREFIX + B64URL.encodeToString(out);
+        } catch (Exception e) {
+            throw new IllegalStateException("RT 토큰 암호화 실패", e);
+        }
+    }
+
+    /**
+     * 토큰 복호화(위조/손상/형식 오류 시 null)
+     */
+    private RtClaims decode(String token) {
+        if (!supports(token)) return null;
+        try {
+            byte[] in = B64URL_DEC.decode(token.substring(TOKEN_PREFIX.length()));
+            if (in.length <= IV_LEN) return null;
+
+            Cipher cipher = gcm.get();
+            cipher.init(Cipher.DECRYPT_MODE, aeadKey, new GCMParameterSpec(TAG_BITS, in, 0, IV_LEN));
+            cipher.updateAAD(AAD);
+            byte[] plain = cipher.doFinal(in, IV_LEN, in.length - IV_LEN);
+
+            return om.readValue(plain, RtClaims.class);
+        } catch (Exception e) {
+            log.warn("RT 토큰 복호화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // =========================
+    // Validate (검증)
+    // =========================
+
+    /**
+     * 토큰 검증
+     * - 복호화(무결성) → 만료 → User-Agent 해시 → 폐기 목록 순으로 확인합니다.
+     * - User-Agent 불일치 시 해당 토큰을 폐기합니다(도난 의심).
+     *
+     * @param token     리프레시 토큰
+     * @param userAgent User-Agent 문자열
+     * @return 유효하면 RtSession, 아니면 null
+     */
+    @Override
+    public RtSession validate(String token, String userAgent) {
+        RtClaims c = decode(token);
+        if (c == null) return null;
+
+        if (System.currentTimeMillis() >= c.exp()) {
+            log.info("validate | expired | sub: {}", c.sub());
+            return null;
+        }
+
+        String uaHash = EncryptUtil.encHashSHA256(Objects.toString(userAgent, ""));
+        if (!uaHash.equals(c.ua())) {
+            log.info("validate | UA mismatch | sub: {}", c.sub());
+            try {
+                revokeJti(c.jti());
+            } catch (Exception e) {
+                log.warn("UA 불일치 토큰 폐기 실패", e);
+            }
+            return null;
+        }
+
+        if (isRevoked(c)) {
+            revokedHit.increment();
+            log.info("validate | revoked | sub: {}", c.sub());
+            return null;
+        }
+
+        return RtSession.builder()
+                .userId(c.sub())
+                .userName(c.name())
+                .roles(c.roles())
+                .uaHash(c.ua())
+                .issuedAt(Instant.ofEpochMilli(c.iat()).toString())
+                .build();
+    }
+
+    /**
+     * 폐기 여부 확인
+     * - 사용자 전체 폐기 시각 이전 발급 토큰이면 폐기
+     * - Bloom 필터 음성이면 폐기되지 않음(Redis 조회 없음)
+     * - Bloom 필터 양성 또는 최초 동기화 전이면 Redis에서 정확히 확인(Redis 오류 시 안전하게 폐기로 간주)
+     */
+    private boolean isRevoked(RtClaims c) {
+        Long cutoff = userCutoff.get(c.sub());
+        if (cutoff != null && c.iat() <= cutoff) return true;
+
+        if (synced && !revokedJti.mightContain(c.jti())) {
+            bloomNegative.increment();
+            return false;
+        }
+
+        exactChecked.increment();
+        try {
+            if (redis.opsForZSet().score(REVOKED_KEY, c.jti()) != null) return true;
+
+            if (!synced) {
+                Object v = redis.opsForHash().get(REVOKED_USER_KEY, c.sub());
+                return v != null && c.iat() <= Long.parseLong(v.toString());
+            }
+            return false;
+        } catch (Exception e) {
+            log.warn("RT 폐기 여부 확인 실패(폐기로 간주)", e);
+            return true;
+        }
+    }
+
+    // =========================
+    // Revoke (폐기)
+    // =========================
+
+    @Override
+    public void revoke(String token) {
+        RtClaims c = decode(token);
+        if (c == null) return;
+        revokeJti(c.jti());
+        log.info("revoke | sub: {}", c.sub());
+    }
+
+    private void revokeJti(String jti) {
+        redis.opsForZSet().add(REVOKED_KEY, jti, System.currentTimeMillis());
+        revokedJti.put(jti); // 현재 인스턴스에는 즉시 반영
+    }
+
+    @Override
+    public void revokeAllByUser(String userId) {
+        long now = System.currentTimeMillis();
+        redis.opsForHash().put(REVOKED_USER_KEY, userId, String.valueOf(now));
+        userCutoff.put(userId, now);
+        log.info("revokeAllByUser | userId: {}", userId);
+    }
+
+    // =========================
+    // Sync (폐기 목록 동기화)
+    // =========================
+
+    /**
+     * Redis 폐기 목록을 메모리로 동기화합니다.
+     * - 평상시: 직전 동기화 이후 추가된 jti만 Bloom 필터에 추가(증분)
+     * - rebuild-ms 마다(또는 반영 건수가 필터 크기를 넘으면): RT 유효기간이 지난 항목을 Redis에서 정리하고
+     * ZCARD 로 크기를 정해 Bloom 필터를 새로 만듦(ZSCAN 으로 나눠 읽음)
+     */
+    @Scheduled(fixedDelayString = "${jwt.token.refresh.stateless.sync-ms:5000}")
+    public void syncRevocations() {
+        if (!"stateless".equals(refreshMode)) return;
+
+        long now = System.currentTimeMillis();
+        long horizon = now - refreshTtlSec * 1000; // 이 시각 이전 폐기분은 토큰이 이미 만료됨
+
+        try {
+            if (!synced || now - lastRebuildMs >= rebuildMs || revokedCount > bloomCapacity) {
+                redis.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, horizon);
+                Long card = redis.opsForZSet().zCard(REVOKED_KEY);
+                long capacity = Math.max(expectedRevocations, (card == null ? 0 : card) * 2);
+
+                BloomFilter f = BloomFilter.create(capacity, fpp);
+                long size = 0;
+                try (Cursor<ZSetOperations.TypedTuple<String>> c = redis.opsForZSet()
+                        .scan(REVOKED_KEY, ScanOptions.scanOptions().count(1000).build())) {
+                    while (c.hasNext()) {
+                        f.put(c.next().getValue());
+                        size++;
+                    }
+                }
+
+                revokedJti = f;
+                revokedCount = size;
+                bloomCapacity = capacity;
+                lastRebuildMs = now;
+            } else {
+                Set<ZSetOperations.TypedTuple<String>> recent = redis.opsForZSet()
+                        .rangeByScoreWithScores(REVOKED_KEY, lastSyncMs - SYNC_OVERLAP_MS, Double.POSITIVE_INFINITY);
+                if (recent != null) {
+                    BloomFilter f = revokedJti;
+                    long added = 0;
+                    for (ZSetOperations.TypedTuple<String> t : recent) {
+                        f.put(t.getValue());
+                        if (t.getScore() != null && t.getScore() >= lastSyncMs) added++; // 겹침 구간은 지난번에 셈(근사치)
+                    }
+                    revokedCount += added;
+                }
+            }
+
+            Map<String, Long> cutoff = new ConcurrentHashMap<>();
+            List<Object> expired = new ArrayList<>();
+            redis.opsForHash().entries(REVOKED_USER_KEY).forEach((k, v) -> {
+                long at = Long.parseLong(v.toString());
+                if (at < horizon) {
+                    expired.add(k);
+                } else {
+                    cutoff.put(k.toString(), at);
+                }
+            });
+            if (!expired.isEmpty()) {
+                redis.opsForHash().delete(REVOKED_USER_KEY, expired.toArray());
+            }
+            // 읽는 동안 현재 인스턴스에서 추가된 폐기 시각 유지
+            userCutoff.forEach((k, v) -> {
+                if (v >= horizon) cutoff.merge(k, v, Math::max);
+            });
+            userCutoff = cutoff;
+
+            lastSyncMs = now;
+            synced = true;
+        } catch (Exception e) {
+            log.warn("RT 폐기 목록 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private static List<String> splitRoles(String roles) {
+        if (roles == null || roles.isBlank()) return List.of("USER");
+        return Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,199 @@
+package kopo.poly.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kopo.poly.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가입된 아이디(USER_INFO.USER_ID) Bloom 필터
+ * <p>
+ * - mightExist()가 false 이면 "확실히 없는 아이디"이므로 DB 조회 없이 사용 가능으로 판단합니다.
+ * true 이면 "있을 수도 있음"이므로 DB 에서 확인합니다.
+ * - 기동 후(ApplicationReadyEvent) 별도 스레드에서 USER_ID 를 스트리밍으로 읽어 만들고, 완성 전에는 항상 true(DB 확인)입니다.
+ * - 이 인스턴스에서 가입/일괄 등록된 아이디는 add()로 바로 반영합니다.
+ * 다른 인스턴스에서 가입된 아이디는 rebuild-ms 마다 전체를 다시 읽을 때 반영되므로,
+ * 그 사이 checkId 는 "사용 가능"으로 답할 수 있습니다. 가입 자체는 기본키 중복으로 판단하므로 중복 가입은 생기지 않습니다.
+ * - 회원 삭제는 반영하지 않습니다(삭제된 아이디는 "있을 수도 있음" → DB 확인).
+ * - USER_INFO 는 utf8mb4_general_ci(대소문자/악센트 구분 없음, 뒤 공백 무시)이므로 넣을 때와 조회할 때 모두 같은 방식으로 정규화합니다(key()).
+ * 정규화 후에도 ASCII 가 아닌 문자가 남는 아이디(한글 등)는 DB 비교 규칙과 같다고 보장할 수 없으므로 필터를 쓰지 않고 DB 에서 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIdFilter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.user.id-filter.enabled:true}")
+    private boolean enabled;
+
+    // 필터 크기 산정용 최소 아이디 수(실제 건수의 2배와 비교해 큰 값 사용)
+    @Value("${app.user.id-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    // 허용 오탐률
+    @Value("${app.user.id-filter.fpp:0.01}")
+    private double fpp;
+
+    // 스트리밍 조회 fetch 크기
+    @Value("${app.user.id-filter.fetch-size:10000}")
+    private int fetchSize;
+
+    private volatile BloomFilter filter;   // null 이면 아직 만들어지지 않음
+    private volatile BloomFilter building; // 재구성 중인 필터(그동안 add()된 아이디도 반영)
+
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private Counter checkAbsent;
+    private Counter checkPresent;
+    private Counter checkFalsePositive;
+
+    @PostConstruct
+    public void init() {
+        checkAbsent = Counter.builder("user.idfilter.checks").tag("result", "absent")
+                .description("필터만으로 없는 아이디로 판단(DB 조회 생략)").register(meterRegistry);
+        checkPresent = Counter.builder("user.idfilter.checks").tag("result", "present")
+                .description("필터 양성 후 DB 에 실제로 있던 아이디").register(meterRegistry);
+        checkFalsePositive = Counter.builder("user.idfilter.checks").tag("result", "false_positive")
+                .description("필터 양성이었지만 DB 에 없던 아이디(오탐)").register(meterRegistry);
+
+        Gauge.builder("user.idfilter.bits", this, f -> f.filter == null ? 0 : f.filter.bitSize())
+                .description("필터 비트 수(메모리 = bits / 8 바이트)").register(meterRegistry);
+        Gauge.builder("user.idfilter.entries", entries, AtomicLong::get)
+                .description("필터에 넣은 아이디 수").register(meterRegistry);
+        Gauge.builder("user.idfilter.expected.fpp", this,
+                        f -> f.filter == null ? 1.0 : f.filter.expectedFpp(f.entries.get()))
+                .description("현재 원소 수 기준 이론상 오탐률").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) return;
+
+        Thread t = new Thread(this::rebuild, "user-id-filter");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /**
+     * 주기적 전체 재구성(다른 인스턴스에서 가입된 아이디 반영, 원소 증가에 맞춰 크기 조정)
+     */
+    @Scheduled(fixedDelayString = "${app.user.id-filter.rebuild-ms:600000}",
+            initialDelayString = "${app.user.id-filter.rebuild-ms:600000}")
+    public void rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) return;
+
+        long start = System.currentTimeMillis();
+        try {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USER_INFO", Long.class);
+            long n = count == null ? 0 : count;
+
+            BloomFilter f = BloomFilter.create(Math.max(expectedInsertions, n * 2), fpp);
+            building = f;
+
+            AtomicLong loaded = new AtomicLong();
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement("SELECT USER_ID FROM USER_INFO");
+                ps.setFetchSize(fetchSize); // 전체 결과를 메모리에 올리지 않고 나눠 받음
+                return ps;
+            }, rs -> {
+                f.put(key(rs.getString(1)));
+                loaded.incrementAndGet();
+            });
+
+            filter = f;
+            entries.set(loaded.get());
+
+            log.info("UserIdFilter | rebuilt | ids={} bits={} expectedFpp={} elapsedMs={}",
+                    loaded.get(), f.bitSize(), String.format("%.5f", f.expectedFpp(loaded.get())),
+                    System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            log.warn("UserIdFilter | rebuild failed | {}", e.getMessage());
+
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 아이디가 있을 수도 있는지(false 이면 확실히 없음). 필터가 없으면 true
+     */
+    public boolean mightExist(String userId) {
+        BloomFilter f = filter;
+        if (f == null) return true;
+
+        String key = key(userId);
+        if (!isAscii(key) || f.mightContain(key)) return true;
+
+        checkAbsent.increment();
+        return false;
+    }
+
+    /**
+     * mightExist() 가 true 여서 DB 로 확인한 결과 기록(오탐률 지표)
+     */
+    public void recordDbCheck(boolean exists) {
+        if (filter == null) return;
+        (exists ? checkPresent : checkFalsePositive).increment();
+    }
+
+    /**
+     * 새로 가입된 아이디 반영
+     */
+    public void add(String userId) {
+        String key = key(userId);
+
+        BloomFilter f = filter;
+        if (f != null) {
+            f.put(key);
+            entries.incrementAndGet();
+        }
+
+        BloomFilter b = building;
+        if (b != null) b.put(key);
+    }
+
+    /**
+     * DB 비교(utf8mb4_general_ci)와 같은 아이디가 같은 값이 되도록 정규화
+     * - 악센트 제거(NFD 분해 후 결합 문자 삭제), 소문자, 뒤 공백 제거
+     * - NFD 로 풀리지 않지만 general_ci 에서 ASCII 와 같은 문자(ß, ſ → s, ı → i)는 직접 바꿈(라틴 문자 범위를 DB 와 비교해 확인)
+     */
+    static String key(String userId) {
+        String s = userId == null ? "" : userId;
+        if (!isAscii(s)) {
+            s = Normalizer.normalize(s, Normalizer.Form.NFD).replaceAll("\\p{M}", "")
+                    .replace('\u00DF', 's').replace('\u017F', 's').replace('\u0131', 'i');
+        }
+        s = s.toLowerCase(Locale.ROOT);
+
+        int end = s.length();
+        while (end > 0 && s.charAt(end - 1) == ' ') end--;
+        return s.substring(0, end);
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0x7F) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,410 @@
+package kopo.poly.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kopo.poly.auth.CalibratedBCryptPasswordEncoder;
+import kopo.poly.auth.UserRole;
+import kopo.poly.dto.UserImportResultDTO;
+import kopo.poly.service.IUserImportService;
+import kopo.poly.util.CmmUtil;
+import kopo.poly.util.EncryptUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 회원 일괄 등록
+ * <p>
+ * 처리 순서(batch-size 건씩 반복):
+ * 1) 입력을 한 줄씩 읽어 행으로 변환(NDJSON: 줄마다 JSON 객체, CSV: 첫 줄 헤더 + 따옴표 지원, 한 줄에 한 행)
+ * 2) 같은 묶음 안의 중복 아이디, DB 에 이미 있는 아이디(SELECT ... IN 1회)를 먼저 걸러 해시 비용을 줄임
+ * 3) 비밀번호 해시 + 이메일 암호화를 import-hash 스레드 풀에서 병렬 처리
+ * 4) 한 트랜잭션에서 JDBC batch INSERT. 실패(동시 가입과 아이디 충돌 등) 시 그 묶음만 한 건씩 다시 INSERT
+ * 5) 행 결과를 NDJSON 으로 출력 후 flush(클라이언트는 진행 상황을 바로 받음)
+ * <p>
+ * 비밀번호:
+ * - 이미 BCrypt 로 해시된 값({bcrypt}$2a$.. 또는 $2a$..)은 다시 해시하지 않고 그대로 저장합니다(기존 시스템 해시 이관).
+ * - 평문은 기본적으로 서비스의 PasswordEncoder(측정된 cost)로 해시합니다. 수백만 건이면 해시가 전체 시간의 대부분이므로,
+ * app.user.import.bcrypt-strength 로 낮은 cost 를 지정할 수 있습니다. 이 경우 첫 로그인 때 현재 cost 로 재해시됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService implements IUserImportService {
+
+    // MariaDB/MySQL 중복 키 오류 코드(ER_DUP_ENTRY)
+    private static final int ER_DUP_ENTRY = 1062;
+
+    private static final String INSERT_SQL = "INSERT INTO USER_INFO"
+            + " (USER_ID, USER_NAME, PASSWORD, EMAIL, ADDR1, ADDR2, reg_id, reg_dtm, chg_id, chg_dtm, roles)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXISTS_SQL = "SELECT USER_ID FROM USER_INFO WHERE USER_ID IN (:ids)";
+
+    // 이미 BCrypt 해시된 비밀번호
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\A(\\{bcrypt})?\\$2[ayb]?\\$\\d\\d\\$[./0-9A-Za-z]{53}\\z");
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String BCRYPT_PREFIX = "{" + BCRYPT_ID + "}";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+    private final UserIdFilter userIdFilter;
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    // 한 번에 해시/INSERT 할 행 수
+    @Value("${app.user.import.batch-size:1000}")
+    private int batchSize;
+
+    // 해시 스레드 수(0이면 CPU 코어 수). 회원가입(reg-hash)과 별도 풀
+    @Value("${app.user.import.hash-threads:0}")
+    private int hashThreads;
+
+    // 평문 비밀번호 해시 cost(0이면 서비스 PasswordEncoder 사용)
+    @Value("${app.user.import.bcrypt-strength:0}")
+    private int importStrength;
+
+    private ThreadPoolExecutor hashPool;
+    private PasswordEncoder importEncoder;
+    private TransactionTemplate tx;
+
+    private Counter rowsInserted;
+    private Counter rowsDuplicated;
+    private Counter rowsFailed;
+
+    /**
+     * 입력 한 행
+     */
+    private static final class Row {
+        final long line;
+        String userId;
+        String userName;
+        String password;
+        String email;
+        String addr1;
+        String addr2;
+
+        int result = -1; // -1: 처리 전
+        String msg;
+
+        Row(long line) {
+            this.line = line;
+        }
+
+        void done(int result, String msg) {
+            this.result = result;
+            this.msg = msg;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+
+        // 묶음 단위로 제출하고 끝날 때까지 기다리므로 대기열은 batch-size 이내. 넘치면 호출 스레드에서 실행
+        hashPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(batchSize, 1)),
+                r -> {
+                    Thread t = new Thread(r, "import-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, hashPool, "import-hash");
+
+        if (importStrength > 0) {
+            // 서비스 인코더(SecurityConfig)와 같은 {bcrypt} 접두어 위임 방식, cost 만 다름
+            CalibratedBCryptPasswordEncoder bcrypt = new CalibratedBCryptPasswordEncoder(importStrength);
+            DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+            delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+            importEncoder = delegating;
+        } else {
+            importEncoder = passwordEncoder;
+        }
+
+        tx = new TransactionTemplate(transactionManager);
+
+        rowsInserted = Counter.builder("user.import.rows").tag("result", "inserted").register(meterRegistry);
+        rowsDuplicated = Counter.builder("user.import.rows").tag("result", "duplicate").register(meterRegistry);
+        rowsFailed = Counter.builder("user.import.rows").tag("result", "fail").register(meterRegistry);
+
+        log.info("UserImportService | batchSize={} hashThreads={} importStrength={}",
+                batchSize, threads, importStrength > 0 ? importStrength : "default");
+    }
+
+    @PreDestroy
+    public void destroy() {
+        hashPool.shutdown();
+    }
+
+    @Override
+    public void importUsers(InputStream in, boolean csv, String adminId, OutputStream out) throws Exception {
+        log.info("{}.importUsers Start! csv={} adminId={}", getClass().getName(), csv, adminId);
+
+        long start = System.nanoTime();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+
+        String[] header = null;
+        List<Row> chunk = new ArrayList<>(batchSize);
+        long[] stats = new long[4]; // total, inserted, duplicated, failed
+        long lineNo = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) continue;
+
+            if (csv && header == null) {
+                header = parseCsvLine(line).toArray(new String[0]);
+                continue;
+            }
+
+            chunk.add(csv ? fromCsv(lineNo, header, line) : fromJson(lineNo, line));
+
+            if (chunk.size() >= batchSize) {
+                processChunk(chunk, adminId, writer, stats);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, adminId, writer, stats);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        writer.write(om.writeValueAsString(UserImportResultDTO.builder()
+                .summary(true).total(stats[0]).inserted(stats[1]).duplicated(stats[2]).failed(stats[3])
+                .elapsedMs(elapsedMs).build()));
+        writer.write('\n');
+        writer.flush();
+
+        log.info("{}.importUsers End! total={} inserted={} duplicated={} failed={} elapsedMs={}",
+                getClass().getName(), stats[0], stats[1], stats[2], stats[3], elapsedMs);
+    }
+
+    private void write(Writer writer, Row r) throws IOException {
+        writer.write(om.writeValueAsString(UserImportResultDTO.builder()
+                .line(r.line).userId(r.userId).result(r.result).msg(r.msg).build()));
+        writer.write('\n');
+    }
+
+    /**
+     * 묶음 처리: 검증 → 중복 제거 → 병렬 해시 → batch INSERT → 결과 출력
+     */
+    private void processChunk(List<Row> chunk, String adminId, Writer writer, long[] stats) throws Exception {
+        insertChunk(chunk, adminId);
+
+        for (Row r : chunk) {
+            stats[0]++;
+            if (r.result == 1 || r.result == 2) {
+                userIdFilter.add(r.userId);
+            }
+            if (r.result == 1) {
+                stats[1]++;
+            } else if (r.result == 2) {
+                stats[2]++;
+                rowsDuplicated.increment();
+            } else {
+                stats[3]++;
+                rowsFailed.increment();
+            }
+            write(writer, r);
+        }
+        writer.flush();
+    }
+
+    private void insertChunk(List<Row> chunk, String adminId) throws Exception {
+
+        // 1) 필수값 검증 + 묶음 내 중복
+        Map<String, Row> byId = new LinkedHashMap<>();
+        for (Row r : chunk) {
+            if (r.result != -1) continue; // 파싱 실패
+            if (r.userId.isEmpty() || r.password.isEmpty() || r.userName.isEmpty()) {
+                r.done(0, "필수값(userId, userName, password) 누락");
+            } else if (byId.putIfAbsent(r.userId, r) != null) {
+                r.done(2, "파일 내 중복 아이디");
+            }
+        }
+
+        // 2) 이미 가입된 아이디(해시 전에 제외)
+        if (!byId.isEmpty()) {
+            List<String> exists = namedJdbcTemplate.queryForList(EXISTS_SQL, Map.of("ids", byId.keySet()), String.class);
+            for (String id : exists) {
+                Row r = byId.remove(id);
+                if (r != null) r.done(2, "이미 가입된 아이디");
+            }
+        }
+
+        List<Row> todo = new ArrayList<>(byId.values());
+        if (todo.isEmpty()) return;
+
+        // 3) 해시/암호화 병렬 처리
+        List<Future<?>> futures = new ArrayList<>(todo.size());
+        for (Row r : todo) {
+            futures.add(hashPool.submit(() -> {
+                try {
+                    r.password = BCRYPT_HASH.matcher(r.password).matches()
+                            ? (r.password.startsWith(BCRYPT_PREFIX) ? r.password : BCRYPT_PREFIX + r.password)
+                            : importEncoder.encode(r.password);
+                    r.email = EncryptUtil.encAES128CBC(r.email);
+                } catch (Exception e) {
+                    r.done(0, "암호화 실패");
+                }
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        todo.removeIf(r -> r.result != -1);
+
+        // 4) batch INSERT
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS); // DATETIME(초 단위)
+        try {
+            tx.executeWithoutResult(s -> jdbcTemplate.batchUpdate(INSERT_SQL, todo, todo.size(), (ps, r) -> {
+                ps.setString(1, r.userId);
+                ps.setString(2, r.userName);
+                ps.setString(3, r.password);
+                ps.setString(4, r.email);
+                ps.setString(5, r.addr1);
+                ps.setString(6, r.addr2);
+                ps.setString(7, adminId);
+                ps.setObject(8, now);
+                ps.setString(9, adminId);
+                ps.setObject(10, now);
+                ps.setString(11, UserRole.USER.getValue());
+            }));
+            todo.forEach(r -> r.done(1, "OK"));
+            rowsInserted.increment(todo.size());
+
+        } catch (Exception e) {
+            // 묶음 전체가 롤백됨 → 한 건씩 다시 INSERT
+            log.info("import batch rolled back, retrying one by one | size: {} | {}", todo.size(), e.getMessage());
+            for (Row r : todo) {
+                insertOne(r, adminId, now);
+            }
+        }
+    }
+
+    private void insertOne(Row r, String adminId, LocalDateTime now) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, r.userId, r.userName, r.password, r.email, r.addr1, r.addr2,
+                    adminId, now, adminId, now, UserRole.USER.getValue());
+            r.done(1, "OK");
+            rowsInserted.increment();
+
+        } catch (DataIntegrityViolationException e) {
+            if (NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlEx
+                    && sqlEx.getErrorCode() == ER_DUP_ENTRY) {
+                r.done(2, "이미 가입된 아이디");
+            } else {
+                r.done(0, "저장 실패");
+            }
+
+        } catch (Exception e) {
+            log.warn("import insert failed | line: {} | userId: {} | {}", r.line, r.userId, e.getMessage());
+            r.done(0, "저장 실패");
+        }
+    }
+
+    // ====== 입력 파싱 ======
+
+    private Row fromJson(long lineNo, String line) {
+        Row r = new Row(lineNo);
+        try {
+            JsonNode n = om.readTree(line);
+            r.userId = CmmUtil.nvl(n.path("userId").asText(null)).trim();
+            r.userName = CmmUtil.nvl(n.path("userName").asText(null)).trim();
+            r.password = CmmUtil.nvl(n.path("password").asText(null));
+            r.email = CmmUtil.nvl(n.path("email").asText(null)).trim();
+            r.addr1 = CmmUtil.nvl(n.path("addr1").asText(null)).trim();
+            r.addr2 = CmmUtil.nvl(n.path("addr2").asText(null)).trim();
+
+        } catch (Exception e) {
+            r.done(0, "JSON 형식 오류");
+        }
+        return r;
+    }
+
+    private Row fromCsv(long lineNo, String[] header, String line) {
+        Row r = new Row(lineNo);
+        List<String> cols = parseCsvLine(line);
+
+        Map<String, String> v = new HashMap<>();
+        for (int i = 0; i < header.length && i < cols.size(); i++) {
+            v.put(header[i].trim(), cols.get(i));
+        }
+
+        r.userId = CmmUtil.nvl(v.get("userId")).trim();
+        r.userName = CmmUtil.nvl(v.get("userName")).trim();
+        r.password = CmmUtil.nvl(v.get("password"));
+        r.email = CmmUtil.nvl(v.get("email")).trim();
+        r.addr1 = CmmUtil.nvl(v.get("addr1")).trim();
+        r.addr2 = CmmUtil.nvl(v.get("addr2")).trim();
+        return r;
+    }
+
+    /**
+     * CSV 한 줄 분리(쉼표 구분, "..." 안의 쉼표 허용, "" 는 따옴표 1개)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> cols = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        sb.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    sb.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cols.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        cols.add(sb.toString());
+        return cols;
+    }
+}
@@ -0,0 +1,250 @@
+package kopo.poly.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kopo.poly.repository.UserInfoRepository;
+import kopo.poly.repository.entity.UserInfoEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회원가입 INSERT 실행기
+ * <p>
+ * 기본(batch.enabled=false):
+ * - 요청 스레드에서 INSERT 1회만 실행합니다. 아이디 중복은 기본키(USER_ID) 중복 오류로 판단하여 2를 반환합니다.
+ * <p>
+ * 마이크로 배치(batch.enabled=true):
+ * - 동시에 들어온 가입 요청을 큐에 모아, 전용 스레드 1개가 최대 max-size 건 또는 max-delay-ms 동안 모인 만큼을
+ * 한 트랜잭션(JDBC batch)으로 INSERT 합니다. 요청 스레드는 자기 결과가 나올 때까지 기다립니다.
+ * - 배치 중 한 건이라도 실패(아이디 중복 등)하면 해당 배치만 한 건씩 다시 INSERT 하여 각자의 결과를 돌려줍니다.
+ * - 가입이 몰릴 때 트랜잭션/커밋 횟수를 줄이는 용도이며, 한가할 때는 첫 요청이 최대 max-delay-ms 만큼 늦어질 수 있습니다.
+ * - wait-ms 안에 결과가 없으면, 작성 스레드가 아직 꺼내지 않은 요청은 취소(0, INSERT 안 함)하고
+ * 이미 INSERT 중인 요청은 실제 결과가 나올 때까지 기다립니다(실패로 응답했는데 가입되는 경우 방지).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserInfoInsertBatcher {
+
+    // MariaDB/MySQL 중복 키 오류 코드(ER_DUP_ENTRY)
+    private static final int ER_DUP_ENTRY = 1062;
+
+    private final UserInfoRepository userInfoRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.user.reg.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    // 한 번에 INSERT 할 최대 건수(spring.jpa.properties.hibernate.jdbc.batch_size 와 같게 권장)
+    @Value("${app.user.reg.batch.max-size:50}")
+    private int maxSize;
+
+    // 첫 요청 이후 다음 요청을 기다리는 최대 시간(ms)
+    @Value("${app.user.reg.batch.max-delay-ms:5}")
+    private long maxDelayMs;
+
+    // 대기 큐 크기(가득 차면 배치 없이 바로 INSERT)
+    @Value("${app.user.reg.batch.queue-size:1000}")
+    private int queueSize;
+
+    // 요청 스레드가 결과를 기다리는 최대 시간(ms)
+    @Value("${app.user.reg.batch.wait-ms:5000}")
+    private long waitMs;
+
+    private record Pending(UserInfoEntity entity, CompletableFuture<Integer> result, AtomicBoolean taken) {
+
+        Pending(UserInfoEntity entity) {
+            this(entity, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        // 작성 스레드가 INSERT 하기로 하거나 요청 스레드가 취소하면 true(먼저 바꾼 쪽이 결정)
+        boolean take() {
+            return taken.compareAndSet(false, true);
+        }
+    }
+
+    private BlockingQueue<Pending> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private Counter insertOk;
+    private Counter insertDuplicate;
+    private Counter insertFail;
+    private DistributionSummary batchSize;
+
+    @PostConstruct
+    public void init() {
+        insertOk = Counter.builder("user.reg.insert").tag("result", "ok").register(meterRegistry);
+        insertDuplicate = Counter.builder("user.reg.insert").tag("result", "duplicate").register(meterRegistry);
+        insertFail = Counter.builder("user.reg.insert").tag("result", "fail").register(meterRegistry);
+        batchSize = DistributionSummary.builder("user.reg.batch.size")
+                .description("마이크로 배치 1회에 INSERT 한 건수").register(meterRegistry);
+
+        if (!batchEnabled) return;
+
+        queue = new ArrayBlockingQueue<>(queueSize);
+        running = true;
+        writer = new Thread(this::runWriter, "user-reg-batch");
+        writer.setDaemon(true);
+        writer.start();
+
+        log.info("UserInfoInsertBatcher | batch enabled | maxSize={} maxDelayMs={} queueSize={}",
+                maxSize, maxDelayMs, queueSize);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (writer == null) return;
+
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(waitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 중 남은 요청은 한 건씩 처리
+        Pending p;
+        while ((p = queue.poll()) != null) {
+            if (p.take()) p.result().complete(insertOne(p.entity()));
+        }
+    }
+
+    /**
+     * 회원 정보 INSERT
+     *
+     * @return 1: 성공, 2: 아이디 중복, 0: 실패
+     */
+    public int insert(UserInfoEntity pEntity) {
+        if (!batchEnabled) return insertOne(pEntity);
+
+        Pending p = new Pending(pEntity);
+        if (!queue.offer(p)) {
+            return insertOne(pEntity); // 큐가 가득 찬 경우 배치 없이 처리
+        }
+
+        try {
+            return p.result().get(waitMs, TimeUnit.MILLISECONDS);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+
+        } catch (TimeoutException e) {
+            if (p.take()) {
+                log.warn("insert batch wait timed out, cancelled | userId: {}", pEntity.getUserId());
+                return 0; // 작성 스레드가 건너뜀
+            }
+            return p.result().join(); // 이미 INSERT 중 → 실제 결과 사용
+
+        } catch (ExecutionException e) {
+            log.warn("insert batch wait failed | userId: {} | {}", pEntity.getUserId(), e.toString());
+            return 0;
+        }
+    }
+
+    /**
+     * 단건 INSERT(중복 키 → 2)
+     */
+    private int insertOne(UserInfoEntity pEntity) {
+        try {
+            userInfoRepository.insertUserInfo(pEntity);
+            insertOk.increment();
+            return 1;
+
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateKey(e)) {
+                insertDuplicate.increment();
+                return 2;
+            }
+            log.warn("insertUserInfo failed | userId: {} | {}", pEntity.getUserId(), e.getMessage());
+
+        } catch (Exception e) {
+            log.warn("insertUserInfo failed | userId: {} | {}", pEntity.getUserId(), e.getMessage());
+        }
+
+        insertFail.increment();
+        return 0;
+    }
+
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlEx
+                && sqlEx.getErrorCode() == ER_DUP_ENTRY;
+    }
+
+    /**
+     * 배치 작성 스레드: 첫 요청을 기다린 뒤 max-delay-ms 동안(또는 max-size 가 찰 때까지) 모아서 INSERT
+     */
+    private void runWriter() {
+        List<Pending> batch = new ArrayList<>(maxSize);
+
+        while (running) {
+            try {
+                Pending first = queue.take();
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+                while (batch.size() < maxSize) {
+                    long remain = deadline - System.nanoTime();
+                    if (remain <= 0) break;
+
+                    Pending next = queue.poll(remain, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                    queue.drainTo(batch, maxSize - batch.size());
+                }
+
+                flush(batch);
+
+            } catch (InterruptedException e) {
+                flush(batch); // 이미 꺼낸 요청은 버리지 않음(destroy()는 큐에 남은 요청만 처리)
+                if (!running) break;
+
+            } catch (Exception e) {
+                log.error("user-reg-batch error", e);
+                batch.forEach(p -> p.result().complete(0));
+
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        batch.removeIf(p -> !p.take()); // 기다리다 취소한 요청 제외
+        if (batch.isEmpty()) return;
+
+        batchSize.record(batch.size());
+
+        if (batch.size() > 1) {
+            try {
+                userInfoRepository.insertUserInfoAll(batch.stream().map(Pending::entity).toList());
+                insertOk.increment(batch.size());
+                batch.forEach(p -> p.result().complete(1));
+                return;
+
+            } catch (Exception e) {
+                // 중복 아이디 등으로 배치 전체가 롤백됨 → 한 건씩 다시 처리하여 각자 결과를 확정
+                log.info("insert batch rolled back, retrying one by one | size: {} | {}", batch.size(), e.getMessage());
+            }
+        }
+
+        for (Pending p : batch) {
+            p.result().complete(insertOne(p.entity()));
+        }
+    }
+}
@@ -4,17 +4,22 @@ import kopo.poly.auth.AuthInfo;
 import kopo.poly.dto.UserInfoDTO;
 import kopo.poly.repository.UserInfoRepository;
 import kopo.poly.repository.entity.UserInfoEntity;
+import kopo.poly.repository.projection.UserAuthView;
+import kopo.poly.repository.projection.UserIdentityView;
+import kopo.poly.repository.projection.UserProfileView;
 import kopo.poly.service.IUserInfoService;
 import kopo.poly.util.CmmUtil;
-import kopo.poly.util.DateUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -24,9 +29,23 @@ public class UserInfoService implements IUserInfoService {
     // UserInfoRepository를 주입받아 DB와 연동합니다.
     private final UserInfoRepository userInfoRepository;
 
+    // 회원가입 INSERT(단건 또는 마이크로 배치)
+    private final UserInfoInsertBatcher userInfoInsertBatcher;
+
+    // 가입된 아이디 Bloom 필터(가입 즉시 반영)
+    private final UserIdFilter userIdFilter;
+
+    // 여러 사용자 조회 시 한 번에 받을 수 있는 최대 아이디 수
+    @Value("${app.user.batch.max-ids:500}")
+    private int batchMaxIds;
+
+    // IN 목록 1회 크기(넘으면 나눠서 조회, 최소 1)
+    @Value("${app.user.batch.chunk-size:100}")
+    private int batchChunkSize;
+
     /**
      * 사용자 인증 정보 조회 (Spring Security에서 사용)
-     * - userId로 DB에서 사용자 정보를 조회합니다.
+     * - userId로 DB에서 인증에 필요한 컬럼만 조회합니다(이메일 복호화 없음).
      * - 조회된 정보를 DTO로 변환 후, 인증 객체(AuthInfo)로 반환합니다.
      * - 아이디가 없으면 UsernameNotFoundException을 발생시킵니다.
      *
@@ -37,20 +56,68 @@ public class UserInfoService implements IUserInfoService {
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
         log.info("{}.loadUserByUsername Start!", this.getClass().getName());
-        UserInfoEntity rEntity = userInfoRepository.findByUserId(userId)
+        // 인증에 필요한 컬럼(아이디, 이름, 비밀번호 해시, 권한)만 조회
+        UserAuthView rView = userInfoRepository.findAuthByUserId(userId)
                 .orElseThrow(() -> new UsernameNotFoundException(userId + " Not Found User"));
 
-        UserInfoDTO rDTO = UserInfoDTO.from(rEntity);
+        UserInfoDTO rDTO = UserInfoDTO.from(rView);
 
         log.info("{}.loadUserByUsername End!", this.getClass().getName());
         return new AuthInfo(rDTO);
     }
 
+    /**
+     * 비밀번호 해시 재저장 (Spring Security에서 사용)
+     * - 로그인 성공 후 저장된 해시의 cost가 현재 설정과 다르면 DaoAuthenticationProvider가 호출합니다.
+     * - 입력된 평문 비밀번호를 현재 cost로 다시 해시한 값(newPassword)을 DB에 저장합니다.
+     * - 저장에 실패해도 로그인은 계속 진행되도록 기존 인증 정보를 그대로 반환합니다.
+     *
+     * @param user        인증된 사용자 정보(AuthInfo)
+     * @param newPassword 새로 해시된 비밀번호({bcrypt}$2a$..)
+     * @return 새 해시가 반영된 인증 정보
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        log.info("{}.updatePassword Start!", this.getClass().getName());
+
+        String userId = user.getUsername();
+
+        try {
+            int res = userInfoRepository.updatePassword(userId, newPassword);
+            log.info("updatePassword | userId: {} | updated: {}", userId, res);
+
+            if (res == 1 && user instanceof AuthInfo authInfo) {
+                UserInfoDTO o = authInfo.userInfoDTO();
+                UserInfoDTO rDTO = UserInfoDTO.builder()
+                        .userId(o.userId())
+                        .userName(o.userName())
+                        .password(newPassword)
+                        .email(o.email())
+                        .addr1(o.addr1())
+                        .addr2(o.addr2())
+                        .regId(o.regId())
+                        .regDt(o.regDt())
+                        .chgId(o.chgId())
+                        .chgDt(o.chgDt())
+                        .roles(o.roles())
+                        .build();
+
+                log.info("{}.updatePassword End!", this.getClass().getName());
+                return new AuthInfo(rDTO);
+            }
+
+        } catch (Exception e) {
+            log.warn("updatePassword failed | userId: {} | {}", userId, e.getMessage());
+        }
+
+        log.info("{}.updatePassword End! (not updated)", this.getClass().getName());
+        return user;
+    }
+
     /**
      * 회원가입 처리
-     * - 입력받은 DTO의 userId로 중복 여부를 확인합니다.
-     * - 중복이 없으면 회원 정보를 Entity로 변환하여 DB에 저장합니다.
-     * - 저장 후 DB에 정상적으로 등록되었는지 확인하여 결과를 반환합니다.
+     * - 회원 정보를 Entity로 변환하여 INSERT 1회로 저장합니다(사전 중복 조회, 저장 후 재조회 없음).
+     * - 아이디 중복은 USER_ID 기본키 중복 오류로 판단합니다(동시에 같은 아이디로 가입해도 한 건만 성공).
      *
      * @param pDTO 회원가입 요청 DTO
      * @return 1: 성공, 2: 아이디 중복, 0: 입력값 오류 또는 저장 실패
@@ -63,9 +130,7 @@ public class UserInfoService implements IUserInfoService {
         String userId = CmmUtil.nvl(pDTO.userId());
         if (userId.isEmpty()) return 0; // 아이디가 없으면 실패 반환
 
-        if (userInfoRepository.findByUserId(userId).isPresent()) {
-            return 2; // 아이디 중복
-        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS); // DATETIME(초 단위)
         UserInfoEntity pEntity = UserInfoEntity.builder()
                 .userId(userId)
                 .userName(CmmUtil.nvl(pDTO.userName()))
@@ -74,20 +139,23 @@ public class UserInfoService implements IUserInfoService {
                 .addr1(CmmUtil.nvl(pDTO.addr1()))
                 .addr2(CmmUtil.nvl(pDTO.addr2()))
                 .roles(CmmUtil.nvl(pDTO.roles()))
-                .regId(userId).regDt(DateUtil.getDateTime("yyyy-MM-dd hh:mm:ss"))
-                .chgId(userId).chgDt(DateUtil.getDateTime("yyyy-MM-dd hh:mm:ss"))
+                .regId(userId).regDt(now)
+                .chgId(userId).chgDt(now)
                 .build();
-        userInfoRepository.save(pEntity);
 
-        log.info("{}.insertUserInfo End!", this.getClass().getName());
+        int res = userInfoInsertBatcher.insert(pEntity);
+        if (res == 1 || res == 2) {
+            userIdFilter.add(userId); // 중복(2)은 다른 인스턴스에서 가입된 아이디이므로 함께 반영
+        }
 
-        return userInfoRepository.findByUserId(userId).isPresent() ? 1 : 0;
+        log.info("{}.insertUserInfo End! res: {}", this.getClass().getName(), res);
+        return res;
     }
 
     /**
-     * 회원 정보 조회
-     * - 입력받은 DTO의 userId로 DB에서 회원 정보를 조회합니다.
-     * - 조회 결과가 있으면 DTO로 변환하여 반환하고, 없으면 null을 반환합니다.
+     * 회원 정보 조회(회원정보 화면용)
+     * - 입력받은 DTO의 userId로 이름, 이메일, 주소만 조회합니다.
+     * - 이메일은 이 조회에서만 복호화합니다.
      *
      * @param pDTO 회원 정보 조회 요청 DTO
      * @return 조회된 회원 정보 DTO (없으면 null)
@@ -100,15 +168,80 @@ public class UserInfoService implements IUserInfoService {
         String userId = CmmUtil.nvl(pDTO.userId());
         log.info("getUserInfo | userId: {}", userId);
 
+        Optional<UserProfileView> rView = userInfoRepository.findProfileByUserId(userId);
+
         UserInfoDTO rDTO = null;
+        if (rView.isPresent()) {
+            rDTO = UserInfoDTO.from(rView.get());
+        }
 
-        Optional<UserInfoEntity> rEntity = userInfoRepository.findByUserId(userId);
+        log.info("{}.getUserInfo End! found: {}", this.getClass().getName(), rDTO != null);
+        return rDTO;
+    }
 
-        if (rEntity.isPresent()) {
-            rDTO = UserInfoDTO.from(rEntity.get());
-        }
+    /**
+     * 사용자 식별 정보 조회
+     * - 아이디, 이름, 권한만 조회합니다(비밀번호 해시, 이메일, 주소는 읽지 않음).
+     *
+     * @param pDTO 조회 요청 DTO(userId)
+     * @return 조회된 식별 정보 DTO (없으면 null)
+     */
+    @Override
+    public UserInfoDTO getUserIdentity(UserInfoDTO pDTO) {
+        log.info("{}.getUserIdentity Start!", this.getClass().getName());
+
+        String userId = CmmUtil.nvl(pDTO.userId());
 
-        log.info("{}.getUserInfo End! (not found)", this.getClass().getName());
+        UserInfoDTO rDTO = userInfoRepository.findIdentityByUserId(userId)
+                .map(UserInfoDTO::from)
+                .orElse(null);
+
+        log.info("{}.getUserIdentity End! found: {}", this.getClass().getName(), rDTO != null);
         return rDTO;
     }
+
+    /**
+     * 여러 사용자 식별 정보 조회
+     * - 빈 값/중복 아이디를 제거한 뒤 chunk-size 개씩 IN 조회합니다(아이디 N개 → 쿼리 N/chunk-size 회).
+     * - 결과는 요청한 아이디 순서대로 반환하며, 없는 아이디는 제외합니다.
+     *
+     * @param userIds 조회할 아이디 목록
+     * @return 식별 정보 목록(아이디, 이름)
+     */
+    @Override
+    public List<UserInfoDTO> getUserIdentities(Collection<String> userIds) {
+        log.info("{}.getUserIdentities Start!", this.getClass().getName());
+
+        Set<String> ids = new LinkedHashSet<>();
+        if (userIds != null) {
+            for (String id : userIds) {
+                String v = CmmUtil.nvl(id).trim();
+                if (!v.isEmpty()) ids.add(v);
+            }
+        }
+
+        if (ids.size() > batchMaxIds) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 아이디는 최대 " + batchMaxIds + "개입니다.");
+        }
+
+        Map<String, UserIdentityView> found = new HashMap<>(ids.size() * 2);
+        List<String> idList = new ArrayList<>(ids);
+        int chunkSize = Math.max(1, batchChunkSize); // 0 이하로 설정되어도 무한 반복하지 않도록 최소 1
+        for (int from = 0; from < idList.size(); from += chunkSize) {
+            List<String> chunk = idList.subList(from, Math.min(from + chunkSize, idList.size()));
+            userInfoRepository.findIdentityByUserIdIn(chunk).forEach(v -> found.put(v.userId(), v));
+        }
+
+        List<UserInfoDTO> rList = new ArrayList<>(found.size());
+        for (String id : idList) {
+            UserIdentityView v = found.get(id);
+            if (v != null) {
+                // 다른 사용자의 권한은 노출하지 않음
+                rList.add(UserInfoDTO.builder().userId(v.userId()).userName(v.userName()).build());
+            }
+        }
+
+        log.info("{}.getUserIdentities End! requested: {} found: {}", this.getClass().getName(), ids.size(), rList.size());
+        return rList;
+    }
 }
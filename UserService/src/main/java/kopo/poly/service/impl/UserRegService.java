@@ -0,0 +1,141 @@
+package kopo.poly.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kopo.poly.auth.UserRole;
+import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.repository.UserInfoRepository;
+import kopo.poly.service.IUserInfoService;
+import kopo.poly.service.IUserRegService;
+import kopo.poly.util.CmmUtil;
+import kopo.poly.util.EncryptUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원가입 처리
+ * <p>
+ * - 비밀번호 해시(BCrypt, 수백 ms)와 이메일 암호화는 reg-hash 스레드 풀에서 실행합니다.
+ * 스레드 수(기본: CPU 코어 수)와 대기열 크기가 제한되어 있어, 가입이 몰려도 CPU 를 해시가 모두 차지하지 않습니다.
+ * - 대기열이 가득 차면 즉시 3(잠시 후 재시도)을 반환합니다.
+ * - INSERT(UserInfoService.insertUserInfo, 단건 또는 마이크로 배치)는 요청 스레드에서 실행합니다.
+ * DB 대기를 해시 스레드에서 하면 해시 스레드 수만큼만 INSERT 가 동시에 실행되어 처리량이 떨어지기 때문입니다.
+ * - 이미 가입된 아이디는 해시 전에 걸러냅니다(UserIdFilter 가 "없음"이면 DB 조회도 생략).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserRegService implements IUserRegService {
+
+    private final IUserInfoService userInfoService;
+    private final UserInfoRepository userInfoRepository;
+    private final UserIdFilter userIdFilter;
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    // 해시 스레드 수(0이면 CPU 코어 수)
+    @Value("${app.user.reg.hash-threads:0}")
+    private int hashThreads;
+
+    // 해시 대기열 크기(초과 시 거부)
+    @Value("${app.user.reg.hash-queue:200}")
+    private int hashQueue;
+
+    private ThreadPoolExecutor hashPool;
+
+    @PostConstruct
+    public void init() {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+
+        hashPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashQueue),
+                r -> {
+                    Thread t = new Thread(r, "reg-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // executor.* 지표(활성 스레드, 대기열 크기, 완료/거부 건수)
+        ExecutorServiceMetrics.monitor(meterRegistry, hashPool, "reg-hash");
+
+        log.info("UserRegService | hashThreads={} hashQueue={}", threads, hashQueue);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        hashPool.shutdown();
+    }
+
+    @Override
+    public int insertUserInfo(UserInfoDTO pDTO) throws Exception {
+        log.info("{}.insertUserInfo Start!", getClass().getName());
+
+        if (CmmUtil.nvl(pDTO.userId()).isBlank()) {
+            return 0; // 아이디가 없으면 해시 없이 실패 반환
+        }
+
+        // 0) 이미 사용 중인 아이디면 해시 없이 중복 반환
+        if (checkUserId(pDTO.userId()) == 2) {
+            log.info("{}.insertUserInfo End! res: 2 (pre-check)", getClass().getName());
+            return 2;
+        }
+
+        // 1) 해시/암호화: 전용 풀에서 실행하고 결과를 기다림
+        UserInfoDTO toSave;
+        try {
+            toSave = hashPool.submit(() -> prepare(pDTO)).get();
+
+        } catch (RejectedExecutionException e) {
+            log.warn("insertUserInfo rejected | queue full ({}) | userId: {}", hashQueue, pDTO.userId());
+            return 3;
+
+        } catch (ExecutionException e) {
+            throw (e.getCause() instanceof Exception cause) ? cause : e;
+        }
+
+        // 2) INSERT: 요청 스레드에서 실행
+        int res = userInfoService.insertUserInfo(toSave);
+
+        log.info("{}.insertUserInfo End! res: {}", getClass().getName(), res);
+        return res;
+    }
+
+    @Override
+    public int checkUserId(String userId) {
+        String id = CmmUtil.nvl(userId).trim();
+        if (id.isEmpty()) return 0;
+
+        if (!userIdFilter.mightExist(id)) {
+            return 1; // 필터에 없으면 확실히 없는 아이디
+        }
+
+        boolean exists = userInfoRepository.existsByUserId(id);
+        userIdFilter.recordDbCheck(exists);
+        return exists ? 2 : 1;
+    }
+
+    /**
+     * 입력 정규화 + 저장 DTO 구성 (비번 해시, 이메일 암호화, 기본 권한)
+     */
+    private UserInfoDTO prepare(UserInfoDTO pDTO) throws Exception {
+        return UserInfoDTO.builder()
+                .userId(CmmUtil.nvl(pDTO.userId()).trim())
+                .userName(CmmUtil.nvl(pDTO.userName()).trim())
+                .password(passwordEncoder.encode(CmmUtil.nvl(pDTO.password()))) // BCrypt 해시
+                .email(EncryptUtil.encAES128CBC(CmmUtil.nvl(pDTO.email()).trim())) // AES/CBC 암호화(기존 호환)
+                .addr1(CmmUtil.nvl(pDTO.addr1()).trim())
+                .addr2(CmmUtil.nvl(pDTO.addr2()).trim())
+                .roles(UserRole.USER.getValue()) // 기본 권한
+                .build();
+    }
+}
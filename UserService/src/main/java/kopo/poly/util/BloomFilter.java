@@ -0,0 +1,107 @@
+package kopo.poly.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom 필터
+ * <p>
+ * 핵심 개념:
+ * - mightContain()이 false 이면 "확실히 없음", true 이면 "있을 수도 있음(오탐 가능)"입니다.
+ * - 원소 자체를 저장하지 않고 비트만 저장하므로 원소 수에 비해 메모리가 매우 작습니다.
+ * - 해시 2개로 k개의 위치를 만드는 double hashing(Kirsch-Mitzenmacher) 방식을 사용합니다.
+ * - put()/mightContain()은 잠금 없이 여러 스레드에서 동시에 호출할 수 있습니다.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashes;
+
+    private BloomFilter(long numBits, int numHashes) {
+        this.bits = new AtomicLongArray((int) ((numBits + 63) >>> 6));
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * 예상 원소 수와 허용 오탐률로 크기를 계산하여 생성합니다.
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param fpp                허용 오탐률(0 < fpp < 1, 예: 0.001)
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        double p = (fpp <= 0 || fpp >= 1) ? 0.001 : fpp;
+
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(p) / (LN2 * LN2)));
+        m = Math.min(m, (long) Integer.MAX_VALUE * 64); // long 배열 인덱스 한도
+        int k = Math.max(1, (int) Math.round((double) m / n * LN2));
+
+        return new BloomFilter(m, k);
+    }
+
+    public void put(String value) {
+        long h = hash(value);
+        long h1 = mix(h);
+        long h2 = mix(h ^ 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < numHashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+            int idx = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long cur;
+            while (((cur = bits.get(idx)) & mask) == 0) {
+                if (bits.compareAndSet(idx, cur, cur | mask)) break;
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long h = hash(value);
+        long h1 = mix(h);
+        long h2 = mix(h ^ 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < numHashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 비트 수(메모리 사용량 = numBits / 8 바이트)
+     */
+    public long bitSize() {
+        return numBits;
+    }
+
+    /**
+     * 원소가 n개 들어 있을 때의 이론상 오탐률: (1 - e^(-kn/m))^k
+     */
+    public double expectedFpp(long insertions) {
+        return Math.pow(1 - Math.exp(-(double) numHashes * insertions / numBits), numHashes);
+    }
+
+    // FNV-1a 64bit (문자 단위, 바이트 배열 생성 없음)
+    private static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // 비트 분산 보정(SplitMix64 finalizer)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,16 +1,57 @@
 package kopo.poly.util;
 
-import java.text.SimpleDateFormat;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Date;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 날짜 및 시간 처리 유틸리티 클래스
  */
 public class DateUtil {
 
+    // 화면/응답에 쓰는 기본 일시 형식(24시간제)
+    public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+    // 형식별 DateTimeFormatter 캐시(불변·스레드 안전하므로 공유). 호출마다 SimpleDateFormat 을 만들지 않음
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private static DateTimeFormatter formatter(String format) {
+        return FORMATTERS.computeIfAbsent(format, DateTimeFormatter::ofPattern);
+    }
+
+    /**
+     * 일시를 기본 형식(yyyy-MM-dd HH:mm:ss) 문자열로 변환합니다.
+     *
+     * @param dateTime 일시(null 허용)
+     * @return 변환된 문자열(null 이면 null)
+     */
+    public static String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : DATE_TIME.format(dateTime);
+    }
+
+    /**
+     * 기본 형식(yyyy-MM-dd HH:mm:ss) 문자열을 일시로 변환합니다.
+     *
+     * @param value 일시 문자열
+     * @return 변환된 일시(비어 있거나 형식이 다르면 null)
+     */
+    public static LocalDateTime parse(String value) {
+        if (value == null || value.isBlank()) return null;
+
+        try {
+            return LocalDateTime.parse(value.trim(), DATE_TIME);
+
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
     /**
      * 현재 시스템 시간을 주어진 포맷 형식으로 반환합니다.
      *
@@ -18,9 +59,7 @@ public class DateUtil {
      * @return 현재 날짜/시간 문자열
      */
     public static String getDateTime(String format) {
-        Date now = new Date();
-        SimpleDateFormat sdf = new SimpleDateFormat(format);
-        return sdf.format(now);
+        return formatter(format).format(LocalDateTime.now());
     }
 
     /**
@@ -72,7 +111,7 @@ public class DateUtil {
      */
     public static String getLongDateTime(Integer time, String format) {
         Instant instant = Instant.ofEpochSecond(time);
-        return DateTimeFormatter.ofPattern(format)
+        return formatter(format)
                 .withZone(ZoneId.systemDefault())
                 .format(instant);
     }
@@ -11,6 +11,11 @@ import java.util.Base64;
  * 암호화 유틸리티 클래스
  * - SHA-256 해시 암호화
  * - AES-128 CBC 대칭키 암호화/복호화
+ * <p>
+ * 성능 관련:
+ * - MessageDigest / Cipher 는 thread-safe 하지 않으므로 스레드별(ThreadLocal) 인스턴스를 재사용합니다.
+ * - Hex 변환은 String.format 대신 조회 테이블을 사용합니다.
+ * - 같은 User-Agent 해시가 반복 요청되므로 최근 해시 결과를 작은 고정 크기 메모에 보관합니다.
  */
 public class EncryptUtil {
 
@@ -32,6 +37,64 @@ public class EncryptUtil {
      */
     private static final String key = "PolyTechnic12345";
 
+    /**
+     * AES 키/IV 객체 (불변 객체이므로 한 번만 생성)
+     */
+    private static final SecretKeySpec keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
+    private static final IvParameterSpec ivSpec = new IvParameterSpec(ivBytes);
+
+    /**
+     * 16진수 변환 조회 테이블
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * 최근 해시 결과 메모 크기(2의 거듭제곱) / 메모 대상 최대 입력 길이
+     * - User-Agent 는 보통 수백 자 이내이며, 너무 긴 입력은 메모하지 않음
+     */
+    private static final int MEMO_SIZE = 256;
+    private static final int MEMO_MAX_INPUT = 1024;
+
+    /**
+     * 최근 해시 결과 메모 (direct-mapped, 잠금 없음)
+     * - 각 칸에는 불변 객체(HashMemo)만 저장하므로 다른 스레드에서 읽어도 안전합니다.
+     * - 충돌 시 덮어쓰며, 틀린 값을 반환하지 않도록 입력 문자열 전체를 비교합니다.
+     */
+    private static final HashMemo[] memo = new HashMemo[MEMO_SIZE];
+
+    private record HashMemo(String input, String hash) {
+    }
+
+    /**
+     * 스레드별 SHA-256 MessageDigest
+     */
+    private static final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            return null; // SHA-256 미지원 환경: encHashSHA256()이 빈 문자열 반환
+        }
+    });
+
+    /**
+     * 스레드별 AES-128 CBC Cipher (암호화용/복호화용)
+     * - 키와 IV가 고정이므로 한 번만 init 하며, doFinal() 이 정상 종료하면 init 직후 상태로 자동 초기화됩니다.
+     * - doFinal() 이 예외(잘못된 패딩 등)로 끝나면 Cipher 상태를 알 수 없으므로(다음 복호화가 예외 없이 틀린 값을 반환할 수 있음)
+     * 해당 스레드의 인스턴스를 버리고 다음 호출에서 새로 만듭니다(doFinal()).
+     */
+    private static final ThreadLocal<Cipher> encCipher = ThreadLocal.withInitial(() -> newCipher(Cipher.ENCRYPT_MODE));
+    private static final ThreadLocal<Cipher> decCipher = ThreadLocal.withInitial(() -> newCipher(Cipher.DECRYPT_MODE));
+
+    private static Cipher newCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            cipher.init(mode, keySpec, ivSpec);
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            return null; // 생성 실패 시 호출 시점에 기존과 같은 예외를 다시 발생시킴
+        }
+    }
+
     /**
      * SHA-256 해시 함수로 문자열 암호화 (단방향)
      *
@@ -39,28 +102,44 @@ public class EncryptUtil {
      * @return 암호화된 64자리 문자열 (Hex 포맷)
      */
     public static String encHashSHA256(String str) {
-        String result;
         String plainText = addMessage + str;
 
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            digest.update(plainText.getBytes());
-            byte[] hash = digest.digest();
+        // 1) 최근 결과 메모 확인
+        int slot = plainText.hashCode() & (MEMO_SIZE - 1);
+        HashMemo m = memo[slot];
+        if (m != null && m.input().equals(plainText)) {
+            return m.hash();
+        }
 
-            StringBuilder sb = new StringBuilder();
-            for (byte b : hash) {
-                sb.append(String.format("%02x", b));
-            }
+        MessageDigest digest = sha256.get();
+        if (digest == null) {
+            return ""; // SHA-256 지원되지 않으면 빈 문자열
+        }
 
-            result = sb.toString();
+        // 2) 해시 계산 (digest()는 내부 상태를 reset 하므로 다음 호출에서 그대로 재사용)
+        byte[] hash = digest.digest(plainText.getBytes(StandardCharsets.UTF_8));
+        String result = toHex(hash);
 
-        } catch (NoSuchAlgorithmException e) {
-            result = ""; // SHA-256 지원되지 않으면 빈 문자열
+        if (plainText.length() <= MEMO_MAX_INPUT) {
+            memo[slot] = new HashMemo(plainText, result);
         }
 
         return result;
     }
 
+    /**
+     * 바이트 배열을 소문자 16진수 문자열로 변환
+     */
+    private static String toHex(byte[] bytes) {
+        char[] out = new char[bytes.length * 2];
+        for (int i = 0, j = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xFF;
+            out[j++] = HEX[v >>> 4];
+            out[j++] = HEX[v & 0x0F];
+        }
+        return new String(out);
+    }
+
     /**
      * AES-128 CBC 방식으로 문자열 암호화
      *
@@ -74,13 +153,7 @@ public class EncryptUtil {
 
         byte[] textBytes = str.getBytes(StandardCharsets.UTF_8);
 
-        SecretKeySpec keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
-        IvParameterSpec ivSpec = new IvParameterSpec(ivBytes);
-
-        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-        cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivSpec);
-
-        byte[] encrypted = cipher.doFinal(textBytes);
+        byte[] encrypted = doFinal(encCipher, Cipher.ENCRYPT_MODE, textBytes);
 
         return Base64.getEncoder().encodeToString(encrypted);
     }
@@ -98,14 +171,44 @@ public class EncryptUtil {
 
         byte[] encryptedBytes = Base64.getDecoder().decode(str);
 
-        SecretKeySpec keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
-        IvParameterSpec ivSpec = new IvParameterSpec(ivBytes);
+        byte[] decrypted = doFinal(decCipher, Cipher.DECRYPT_MODE, encryptedBytes);
+
+        return new String(decrypted, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 스레드별 Cipher 로 암호화/복호화
+     * - 실패하면 Cipher 를 버리고(holder.remove) 예외를 그대로 전달합니다.
+     */
+    private static byte[] doFinal(ThreadLocal<Cipher> holder, int mode, byte[] input)
+            throws NoSuchAlgorithmException, NoSuchPaddingException,
+            InvalidKeyException, InvalidAlgorithmParameterException,
+            IllegalBlockSizeException, BadPaddingException {
+
+        Cipher cipher = cipher(holder, mode);
+        try {
+            return cipher.doFinal(input);
 
-        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-        cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            holder.remove();
+            throw e;
+        }
+    }
 
-        byte[] decrypted = cipher.doFinal(encryptedBytes);
+    /**
+     * 스레드별 Cipher 조회
+     * - 초기화에 실패한 환경이면 기존 구현과 동일하게 JCE 예외가 호출자에게 전달되도록 다시 생성합니다.
+     */
+    private static Cipher cipher(ThreadLocal<Cipher> holder, int mode)
+            throws NoSuchAlgorithmException, NoSuchPaddingException,
+            InvalidKeyException, InvalidAlgorithmParameterException {
 
-        return new String(decrypted, StandardCharsets.UTF_8);
+        Cipher cipher = holder.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            cipher.init(mode, keySpec, ivSpec);
+            holder.set(cipher);
+        }
+        return cipher;
     }
-}
\ No newline at end of file
+}
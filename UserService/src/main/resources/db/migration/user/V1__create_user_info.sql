@@ -0,0 +1,19 @@
+-- 회원 테이블(기존 운영 DB 에 이미 있으면 건너뜀)
+-- USER_ID 는 기본키(유일 인덱스)로, 회원가입 아이디 중복 확인과 NOTICE 조인에 사용
+CREATE TABLE IF NOT EXISTS USER_INFO
+(
+    USER_ID   VARCHAR(100) NOT NULL,
+    USER_NAME VARCHAR(500) NOT NULL,
+    PASSWORD  VARCHAR(100) NOT NULL,
+    EMAIL     VARCHAR(500) NOT NULL,
+    ADDR1     VARCHAR(500) NOT NULL,
+    ADDR2     VARCHAR(500) NOT NULL,
+    reg_id    VARCHAR(100) NULL,
+    reg_dt    VARCHAR(20)  NULL,
+    chg_id    VARCHAR(100) NULL,
+    chg_dt    VARCHAR(20)  NULL,
+    roles     VARCHAR(100) NULL,
+    PRIMARY KEY (USER_ID)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_general_ci;
@@ -0,0 +1,19 @@
+-- 등록/수정 일시를 문자열(reg_dt, chg_dt)에서 DATETIME(reg_dtm, chg_dtm)으로 옮기는 1단계(확장)
+-- 기존 행은 V3(UserInfoDateTimeBackfill)가 나눠서 채우고, 문자열 컬럼은 이전 버전 인스턴스가 모두 내려간 뒤 별도 마이그레이션으로 삭제
+
+-- 1) 새 컬럼 : 맨 뒤에 NULL 허용으로 추가하므로 테이블 복사 없이(INSTANT) 바로 끝남
+ALTER TABLE USER_INFO
+    ADD COLUMN IF NOT EXISTS reg_dtm DATETIME NULL,
+    ADD COLUMN IF NOT EXISTS chg_dtm DATETIME NULL;
+
+-- 2) 배포 중 두 버전이 함께 INSERT 해도 양쪽 컬럼이 모두 채워지도록 동기화
+--    이전 버전은 문자열만, 새 버전은 DATETIME 만 넣음(문자열은 12시간제 hh 로 저장되어 있어 오전/오후 구분 없이 그대로 옮김)
+DROP TRIGGER IF EXISTS TR_USER_INFO_DTM_INS;
+CREATE TRIGGER TR_USER_INFO_DTM_INS
+    BEFORE INSERT
+    ON USER_INFO
+    FOR EACH ROW
+    SET NEW.reg_dtm = COALESCE(NEW.reg_dtm, IF(NEW.reg_dt LIKE '____-__-__ __:__:__', STR_TO_DATE(NEW.reg_dt, '%Y-%m-%d %H:%i:%s'), NULL)),
+        NEW.chg_dtm = COALESCE(NEW.chg_dtm, IF(NEW.chg_dt LIKE '____-__-__ __:__:__', STR_TO_DATE(NEW.chg_dt, '%Y-%m-%d %H:%i:%s'), NULL)),
+        NEW.reg_dt  = COALESCE(NEW.reg_dt, DATE_FORMAT(NEW.reg_dtm, '%Y-%m-%d %H:%i:%s')),
+        NEW.chg_dt  = COALESCE(NEW.chg_dt, DATE_FORMAT(NEW.chg_dtm, '%Y-%m-%d %H:%i:%s'));
@@ -0,0 +1,32 @@
+package kopo.poly.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.BadPaddingException;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EncryptUtilTest {
+
+	/**
+	 * 패딩 오류로 복호화가 실패한 뒤에도 같은 스레드의 다음 복호화는 정상 값을 반환해야 함
+	 * (실패한 Cipher 를 재사용하면 예외 없이 틀린 값을 반환)
+	 */
+	@Test
+	void decryptAfterBadPadding() throws Exception {
+		String email = "test01@example.com";
+		String enc = EncryptUtil.encAES128CBC(email);
+
+		byte[] broken = Base64.getDecoder().decode(enc);
+		broken[broken.length - 1] ^= 0x5a; // 마지막 블록을 깨서 패딩 오류 유도
+
+		assertThrows(BadPaddingException.class,
+				() -> EncryptUtil.decAES128CBC(Base64.getEncoder().encodeToString(broken)));
+
+		assertEquals(email, EncryptUtil.decAES128CBC(enc));
+		assertEquals(enc, EncryptUtil.encAES128CBC(email));
+	}
+
+}